@@ -12,6 +12,28 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.SOURCE)
 public @interface JsonWriter {
 
+  /// also generate `write`, `encode` and `decode` methods over a Jackson `JsonFactory`, so the
+  /// record can be written as CBOR, Smile or MessagePack by passing the matching factory.
+  ///
+  /// nested records must opt in as well
+  boolean binary() default false;
+
+  /// also generate `fromBuffer(Buffer, boolean)`, which checks the constraints while it decodes and
+  /// returns every error in a `DecodeResult` instead of throwing.
+  ///
+  /// nested records must opt in as well
+  boolean validating() default false;
+
+  /// also generate `toPositional`, `fromPositional`, `writePositional` and `readPositional`, a
+  /// binary form without field names for hops where both ends run the same generated code.
+  ///
+  /// nested records must opt in as well
+  boolean positional() default false;
+
+  /// also generate an event bus `Codec` and list it in `META-INF/services` for
+  /// `JsonMessageCodec.registerAll`
+  boolean codec() default false;
+
   // todo: make this a package level annotation which can apply
   //  to all classes in the package
 }
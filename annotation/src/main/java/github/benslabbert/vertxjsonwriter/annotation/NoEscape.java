@@ -0,0 +1,17 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/// Marks a `String` component whose values never need escaping, e.g. ids, codes or UUIDs: only
+/// printable ascii without `"` and `\`.
+///
+/// `writeTo` copies such a value without scanning it and `serializedSize` counts its length. A
+/// value with any other char is written as invalid json, which is only checked with assertions
+/// enabled. The processor rejects the annotation on any other type.
+@Target({ElementType.FIELD, ElementType.RECORD_COMPONENT})
+@Retention(RetentionPolicy.SOURCE)
+public @interface NoEscape {}
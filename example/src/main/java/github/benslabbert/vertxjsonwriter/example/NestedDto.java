@@ -4,7 +4,7 @@ package github.benslabbert.vertxjsonwriter.example;
 import com.google.auto.value.AutoBuilder;
 import github.benslabbert.vertxjsonwriter.annotation.JsonWriter;
 
-@JsonWriter
+@JsonWriter(binary = true, positional = true, codec = true)
 public record NestedDto(String name, InnerDto innerDto) {
 
   public static Builder builder() {
@@ -21,7 +21,7 @@ public record NestedDto(String name, InnerDto innerDto) {
     NestedDto build();
   }
 
-  @JsonWriter
+  @JsonWriter(binary = true, positional = true, codec = true)
   public record InnerDto(String name) {
 
     public static Builder builder() {
@@ -6,7 +6,7 @@ import github.benslabbert.vertxjsonwriter.annotation.JsonWriter;
 import java.util.List;
 import java.util.Set;
 
-@JsonWriter
+@JsonWriter(positional = true, codec = true)
 public record Collection(
     String name,
     List<String> strings,
@@ -4,7 +4,7 @@ package github.benslabbert.vertxjsonwriter.example.dto;
 import com.google.auto.value.AutoBuilder;
 import github.benslabbert.vertxjsonwriter.annotation.JsonWriter;
 
-@JsonWriter
+@JsonWriter(positional = true, codec = true)
 public record Complex(Long longValue, long longPrimitiveValue, String stringValue) {
 
   public static Builder builder() {
@@ -4,7 +4,7 @@ package github.benslabbert.vertxjsonwriter.example.dto;
 import com.google.auto.value.AutoBuilder;
 import github.benslabbert.vertxjsonwriter.annotation.JsonWriter;
 
-@JsonWriter
+@JsonWriter(positional = true, codec = true)
 public record Job(String name) {
 
   public static Builder builder() {
@@ -4,7 +4,7 @@ package github.benslabbert.vertxjsonwriter.example.dto;
 import com.google.auto.value.AutoBuilder;
 import github.benslabbert.vertxjsonwriter.annotation.JsonWriter;
 
-@JsonWriter
+@JsonWriter(positional = true, codec = true)
 public record Person(String name, int age, boolean bool, Job job) {
 
   public static Person.Builder builder() {
@@ -7,7 +7,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 
-@JsonWriter
+@JsonWriter(positional = true, codec = true)
 public record Times(LocalDate date, LocalDateTime time, OffsetDateTime offsetDateTime) {
 
   public static Builder builder() {
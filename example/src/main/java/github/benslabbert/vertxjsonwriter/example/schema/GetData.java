@@ -5,7 +5,7 @@ import com.google.auto.value.AutoBuilder;
 import github.benslabbert.vertxjsonwriter.annotation.JsonWriter;
 import jakarta.validation.constraints.NotNull;
 
-@JsonWriter
+@JsonWriter(positional = true, codec = true)
 public record GetData(@NotNull Request request) {
 
   public static Builder builder() {
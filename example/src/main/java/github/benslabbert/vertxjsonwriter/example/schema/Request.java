@@ -14,7 +14,7 @@ import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.util.Set;
 
-@JsonWriter
+@JsonWriter(validating = true, positional = true, codec = true)
 public record Request(
     @NotNull @NotBlank @Size(min = 2, max = 10) String data,
     @Nullable @Size(max = 66) String other,
@@ -0,0 +1,39 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.example;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.Test;
+
+class BinaryTest {
+
+  @Test
+  void cborRoundTrip() {
+    // Arrange
+    CBORFactory cbor = new CBORFactory();
+    NestedDto value = Samples.nestedDto();
+
+    // Act
+    byte[] bytes = NestedDtoJson.encode(cbor, value);
+    NestedDto decoded = NestedDtoJson.decode(cbor, bytes);
+
+    // Assert
+    assertThat(decoded).isEqualTo(value);
+    // a cbor map of two entries, not json text
+    assertThat(bytes[0]).isEqualTo((byte) 0xa2);
+  }
+
+  @Test
+  void jsonFactoryWritesTheSameJsonAsToBuffer() {
+    // Arrange
+    NestedDto value = Samples.nestedDto();
+
+    // Act
+    byte[] bytes = NestedDtoJson.encode(new JsonFactory(), value);
+
+    // Assert
+    assertThat(new String(bytes)).isEqualTo(NestedDtoJson.toBuffer(value).toString());
+  }
+}
@@ -0,0 +1,102 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.example;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import github.benslabbert.vertxjsonwriter.example.dto.CollectionJson;
+import github.benslabbert.vertxjsonwriter.example.dto.ComplexJson;
+import github.benslabbert.vertxjsonwriter.example.dto.Job;
+import github.benslabbert.vertxjsonwriter.example.dto.JobJson;
+import github.benslabbert.vertxjsonwriter.example.dto.Person;
+import github.benslabbert.vertxjsonwriter.example.dto.PersonJson;
+import github.benslabbert.vertxjsonwriter.example.dto.PrimitiveEntityJson;
+import github.benslabbert.vertxjsonwriter.example.dto.TimesJson;
+import github.benslabbert.vertxjsonwriter.example.schema.GetDataJson;
+import github.benslabbert.vertxjsonwriter.example.schema.RequestJson;
+import github.benslabbert.vertxjsonwriter.runtime.JsonMessageCodec;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.EventBus;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class CodecTest {
+
+  private record Case<T>(T value, JsonMessageCodec<T> codec) {
+
+    @Override
+    public String toString() {
+      return value.getClass().getSimpleName();
+    }
+  }
+
+  static Stream<Case<?>> cases() {
+    return Stream.of(
+        new Case<>(Samples.person(), new PersonJson.Codec()),
+        new Case<>(Samples.primitiveEntity(), new PrimitiveEntityJson.Codec()),
+        new Case<>(Samples.collection(), new CollectionJson.Codec()),
+        new Case<>(Samples.times(), new TimesJson.Codec()),
+        new Case<>(Samples.complex(), new ComplexJson.Codec()),
+        new Case<>(Samples.request(), new RequestJson.Codec()),
+        new Case<>(Samples.getData(), new GetDataJson.Codec()),
+        new Case<>(Samples.nestedDto(), new NestedDtoJson.Codec()));
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("cases")
+  <T> void wireRoundTrip(Case<T> c) {
+    // Arrange
+    Buffer wire = Buffer.buffer("header");
+
+    // Act
+    c.codec().encodeToWire(wire, c.value());
+    T value = c.codec().decodeFromWire(6, wire);
+
+    // Assert
+    assertThat(value).isEqualTo(c.value());
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("cases")
+  <T> void localPassesTheSameInstance(Case<T> c) {
+    // Act
+    T value = c.codec().transform(c.value());
+
+    // Assert
+    assertThat(value).isSameAs(c.value());
+  }
+
+  @Test
+  void registerAllFindsTheGeneratedCodecs() {
+    // Arrange
+    Vertx vertx = Vertx.vertx();
+    try {
+      EventBus eventBus = vertx.eventBus();
+      eventBus.registerDefaultCodec(Job.class, new JobJson.Codec());
+      eventBus.<Person>consumer("person", message -> message.reply(message.body()));
+
+      // Act
+      JsonMessageCodec.registerAll(eventBus);
+      JsonMessageCodec.registerAll(eventBus);
+      Person person = Samples.person();
+      Object reply =
+          eventBus
+              .request("person", person)
+              .toCompletionStage()
+              .toCompletableFuture()
+              .join()
+              .body();
+
+      // Assert
+      assertThat(reply).isSameAs(person);
+      assertThrows(
+          IllegalStateException.class,
+          () -> eventBus.registerDefaultCodec(Person.class, new PersonJson.Codec()));
+    } finally {
+      vertx.close().await();
+    }
+  }
+}
@@ -0,0 +1,123 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.example;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import github.benslabbert.vertxjsonwriter.example.dto.CollectionJson;
+import github.benslabbert.vertxjsonwriter.example.dto.ComplexJson;
+import github.benslabbert.vertxjsonwriter.example.dto.PersonJson;
+import github.benslabbert.vertxjsonwriter.example.dto.PrimitiveEntityJson;
+import github.benslabbert.vertxjsonwriter.example.dto.TimesJson;
+import github.benslabbert.vertxjsonwriter.example.schema.GetDataJson;
+import github.benslabbert.vertxjsonwriter.example.schema.RequestJson;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.vertx.core.buffer.Buffer;
+import java.nio.ByteBuffer;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class DirectWriteTest {
+
+  private record Case<T>(
+      T value,
+      Function<T, Buffer> toBuffer,
+      ToIntFunction<T> serializedSize,
+      BiConsumer<ByteBuf, T> writeToByteBuf,
+      BiConsumer<ByteBuffer, T> writeToByteBuffer) {
+
+    @Override
+    public String toString() {
+      return value.getClass().getSimpleName();
+    }
+  }
+
+  static Stream<Case<?>> cases() {
+    return Stream.of(
+        new Case<>(
+            Samples.person(),
+            PersonJson::toBuffer,
+            PersonJson::serializedSize,
+            PersonJson::writeTo,
+            PersonJson::writeTo),
+        new Case<>(
+            Samples.primitiveEntity(),
+            PrimitiveEntityJson::toBuffer,
+            PrimitiveEntityJson::serializedSize,
+            PrimitiveEntityJson::writeTo,
+            PrimitiveEntityJson::writeTo),
+        new Case<>(
+            Samples.collection(),
+            CollectionJson::toBuffer,
+            CollectionJson::serializedSize,
+            CollectionJson::writeTo,
+            CollectionJson::writeTo),
+        new Case<>(
+            Samples.times(),
+            TimesJson::toBuffer,
+            TimesJson::serializedSize,
+            TimesJson::writeTo,
+            TimesJson::writeTo),
+        new Case<>(
+            Samples.complex(),
+            ComplexJson::toBuffer,
+            ComplexJson::serializedSize,
+            ComplexJson::writeTo,
+            ComplexJson::writeTo),
+        new Case<>(
+            Samples.request(),
+            RequestJson::toBuffer,
+            RequestJson::serializedSize,
+            RequestJson::writeTo,
+            RequestJson::writeTo),
+        new Case<>(
+            Samples.getData(),
+            GetDataJson::toBuffer,
+            GetDataJson::serializedSize,
+            GetDataJson::writeTo,
+            GetDataJson::writeTo),
+        new Case<>(
+            Samples.nestedDto(),
+            NestedDtoJson::toBuffer,
+            NestedDtoJson::serializedSize,
+            NestedDtoJson::writeTo,
+            NestedDtoJson::writeTo));
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("cases")
+  <T> void directByteBufMatchesToBuffer(Case<T> c) {
+    // Arrange
+    ByteBuf byteBuf = PooledByteBufAllocator.DEFAULT.directBuffer();
+
+    try {
+      // Act
+      c.writeToByteBuf().accept(byteBuf, c.value());
+
+      // Assert
+      assertThat(ByteBufUtil.getBytes(byteBuf)).isEqualTo(c.toBuffer().apply(c.value()).getBytes());
+    } finally {
+      byteBuf.release();
+    }
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("cases")
+  <T> void byteBufferOfSerializedSizeMatchesToBuffer(Case<T> c) {
+    // Arrange
+    ByteBuffer byteBuffer = ByteBuffer.allocateDirect(c.serializedSize().applyAsInt(c.value()));
+
+    // Act
+    c.writeToByteBuffer().accept(byteBuffer, c.value());
+
+    // Assert
+    byte[] bytes = new byte[byteBuffer.flip().remaining()];
+    byteBuffer.get(bytes);
+    assertThat(bytes).isEqualTo(c.toBuffer().apply(c.value()).getBytes());
+  }
+}
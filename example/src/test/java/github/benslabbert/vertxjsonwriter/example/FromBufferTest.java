@@ -0,0 +1,124 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.example;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import github.benslabbert.vertxjsonwriter.example.dto.Collection;
+import github.benslabbert.vertxjsonwriter.example.dto.CollectionJson;
+import github.benslabbert.vertxjsonwriter.example.dto.ComplexJson;
+import github.benslabbert.vertxjsonwriter.example.dto.PersonJson;
+import github.benslabbert.vertxjsonwriter.example.dto.PrimitiveEntityJson;
+import github.benslabbert.vertxjsonwriter.example.dto.TimesJson;
+import github.benslabbert.vertxjsonwriter.example.schema.GetDataJson;
+import github.benslabbert.vertxjsonwriter.example.schema.Request;
+import github.benslabbert.vertxjsonwriter.example.schema.RequestJson;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class FromBufferTest {
+
+  private record Case<T>(
+      T value,
+      Function<T, JsonObject> toJson,
+      Function<JsonObject, T> fromJson,
+      Function<Buffer, T> fromBuffer) {
+
+    @Override
+    public String toString() {
+      return value.getClass().getSimpleName();
+    }
+  }
+
+  static Stream<Case<?>> cases() {
+    return Stream.of(
+        new Case<>(
+            Samples.person(), PersonJson::toJson, PersonJson::fromJson, PersonJson::fromBuffer),
+        new Case<>(
+            Samples.primitiveEntity(),
+            PrimitiveEntityJson::toJson,
+            PrimitiveEntityJson::fromJson,
+            PrimitiveEntityJson::fromBuffer),
+        new Case<>(
+            Samples.collection(),
+            CollectionJson::toJson,
+            CollectionJson::fromJson,
+            CollectionJson::fromBuffer),
+        new Case<>(Samples.times(), TimesJson::toJson, TimesJson::fromJson, TimesJson::fromBuffer),
+        new Case<>(
+            Samples.complex(), ComplexJson::toJson, ComplexJson::fromJson, ComplexJson::fromBuffer),
+        new Case<>(
+            Samples.request(), RequestJson::toJson, RequestJson::fromJson, RequestJson::fromBuffer),
+        new Case<>(
+            Samples.getData(), GetDataJson::toJson, GetDataJson::fromJson, GetDataJson::fromBuffer),
+        new Case<>(
+            Samples.nestedDto(),
+            NestedDtoJson::toJson,
+            NestedDtoJson::fromJson,
+            NestedDtoJson::fromBuffer));
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("cases")
+  <T> void fromBufferMatchesFromJson(Case<T> c) {
+    // Arrange
+    JsonObject json = c.toJson().apply(c.value());
+
+    // Act
+    T fromBuffer = c.fromBuffer().apply(json.toBuffer());
+    T fromJson = c.fromJson().apply(json);
+
+    // Assert
+    assertThat(fromBuffer).isEqualTo(c.value());
+    assertThat(fromJson).isEqualTo(c.value());
+  }
+
+  @Test
+  void missingRequiredFieldIsRejected() {
+    // Arrange
+    JsonObject json = PersonJson.toJson(Samples.person());
+    json.remove("age");
+
+    // Act
+    DecodeException fromBuffer =
+        assertThrows(DecodeException.class, () -> PersonJson.fromBuffer(json.toBuffer()));
+    DecodeException fromJson = assertThrows(DecodeException.class, () -> PersonJson.fromJson(json));
+
+    // Assert
+    assertThat(fromBuffer.getMessage()).isEqualTo("missing required field 'age'");
+    assertThat(fromJson.getMessage()).isEqualTo(fromBuffer.getMessage());
+  }
+
+  @Test
+  void missingNullableFieldIsNull() {
+    // Arrange
+    JsonObject json = RequestJson.toJson(Samples.request());
+    json.remove("other");
+
+    // Act
+    Request fromBuffer = RequestJson.fromBuffer(json.toBuffer());
+
+    // Assert
+    assertThat(fromBuffer.other()).isNull();
+    assertThat(fromBuffer).isEqualTo(RequestJson.fromJson(json));
+  }
+
+  @Test
+  void collectionsAreUnmodifiable() {
+    // Arrange
+    Buffer buffer = CollectionJson.toBuffer(Samples.collection());
+
+    // Act
+    Collection collection = CollectionJson.fromBuffer(buffer);
+
+    // Assert
+    assertThrows(UnsupportedOperationException.class, () -> collection.strings().add("c"));
+    assertThrows(UnsupportedOperationException.class, () -> collection.ages().add(1));
+  }
+}
@@ -0,0 +1,57 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.example;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import github.benslabbert.vertxjsonwriter.example.dto.CollectionJson;
+import github.benslabbert.vertxjsonwriter.example.dto.ComplexJson;
+import github.benslabbert.vertxjsonwriter.example.dto.PersonJson;
+import github.benslabbert.vertxjsonwriter.example.dto.PrimitiveEntityJson;
+import github.benslabbert.vertxjsonwriter.example.dto.TimesJson;
+import github.benslabbert.vertxjsonwriter.example.schema.GetDataJson;
+import github.benslabbert.vertxjsonwriter.example.schema.RequestJson;
+import io.vertx.core.buffer.Buffer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class PositionalTest {
+
+  private record Case<T>(
+      T value, Function<T, Buffer> toPositional, Function<Buffer, T> fromPositional) {
+
+    @Override
+    public String toString() {
+      return value.getClass().getSimpleName();
+    }
+  }
+
+  static Stream<Case<?>> cases() {
+    return Stream.of(
+        new Case<>(Samples.person(), PersonJson::toPositional, PersonJson::fromPositional),
+        new Case<>(
+            Samples.primitiveEntity(),
+            PrimitiveEntityJson::toPositional,
+            PrimitiveEntityJson::fromPositional),
+        new Case<>(
+            Samples.collection(), CollectionJson::toPositional, CollectionJson::fromPositional),
+        new Case<>(Samples.times(), TimesJson::toPositional, TimesJson::fromPositional),
+        new Case<>(Samples.complex(), ComplexJson::toPositional, ComplexJson::fromPositional),
+        new Case<>(Samples.request(), RequestJson::toPositional, RequestJson::fromPositional),
+        new Case<>(Samples.getData(), GetDataJson::toPositional, GetDataJson::fromPositional),
+        new Case<>(
+            Samples.nestedDto(), NestedDtoJson::toPositional, NestedDtoJson::fromPositional));
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("cases")
+  <T> void roundTrip(Case<T> c) {
+    // Act
+    Buffer buffer = c.toPositional().apply(c.value());
+    T value = c.fromPositional().apply(buffer);
+
+    // Assert
+    assertThat(value).isEqualTo(c.value());
+  }
+}
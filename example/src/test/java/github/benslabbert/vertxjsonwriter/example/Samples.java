@@ -0,0 +1,143 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.example;
+
+import github.benslabbert.vertxjsonwriter.example.dto.Collection;
+import github.benslabbert.vertxjsonwriter.example.dto.Complex;
+import github.benslabbert.vertxjsonwriter.example.dto.Job;
+import github.benslabbert.vertxjsonwriter.example.dto.Person;
+import github.benslabbert.vertxjsonwriter.example.dto.PrimitiveEntity;
+import github.benslabbert.vertxjsonwriter.example.dto.Times;
+import github.benslabbert.vertxjsonwriter.example.schema.GetData;
+import github.benslabbert.vertxjsonwriter.example.schema.Request;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.provider.Arguments;
+
+/// one value of each example record, shared by the tests of the generated classes
+final class Samples {
+
+  private Samples() {}
+
+  static Job job() {
+    return Job.builder().name("Software Engineer").build();
+  }
+
+  static Person person() {
+    return Person.builder().name("Alice").age(30).bool(true).job(job()).build();
+  }
+
+  static PrimitiveEntity primitiveEntity() {
+    return PrimitiveEntity.builder()
+        .name("primitive")
+        .number(Integer.MIN_VALUE)
+        .bool(false)
+        .fl(1.25f)
+        .dub(-0.5)
+        .sh(Short.MAX_VALUE)
+        .ch('é')
+        .b(Byte.MIN_VALUE)
+        .l(Long.MIN_VALUE)
+        .build();
+  }
+
+  static Collection collection() {
+    return Collection.builder()
+        .name("collection")
+        .strings(List.of("a", "b"))
+        .booleans(List.of(true, false))
+        .integers(List.of(1, -2))
+        .longs(List.of(Long.MAX_VALUE))
+        .floats(List.of(1.5f))
+        .doubles(List.of(2.5, -0.125))
+        .ages(Set.of(7))
+        .truisms(List.of(true))
+        .jobList(List.of(job()))
+        .jobSet(Set.of(job()))
+        .jobCollection(List.of(job(), job()))
+        .build();
+  }
+
+  static Times times() {
+    return Times.builder()
+        .date(LocalDate.of(1, 1, 1))
+        .time(LocalDateTime.of(2024, 2, 29, 0, 0))
+        .offsetDateTime(OffsetDateTime.of(2024, 2, 29, 13, 14, 15, 1, ZoneOffset.UTC))
+        .build();
+  }
+
+  static Complex complex() {
+    return Complex.builder()
+        .longValue(Long.MAX_VALUE)
+        .longPrimitiveValue(-1)
+        .stringValue("s")
+        .build();
+  }
+
+  static Request request() {
+    return Request.builder()
+        .data("data")
+        .other("\"quoted\" é 日本\n")
+        .integer(5)
+        .number(25.5)
+        .bool(true)
+        .localDate(LocalDate.of(2024, 2, 29))
+        .localDateTime(LocalDateTime.of(2024, 2, 29, 13, 14, 15, 123_000_000))
+        .offsetDateTime(OffsetDateTime.of(2024, 2, 29, 13, 14, 15, 0, ZoneOffset.ofHours(2)))
+        .ages(Set.of(3, 4))
+        .tags(Set.of("aaa", "bbb"))
+        .description(null)
+        .build();
+  }
+
+  static GetData getData() {
+    return GetData.builder().request(request()).build();
+  }
+
+  static NestedDto nestedDto() {
+    return NestedDto.builder()
+        .name("nested")
+        .innerDto(NestedDto.InnerDto.builder().name("inner").build())
+        .build();
+  }
+
+  /// a request document that passes every constraint of `Request`
+  static JsonObject validRequest() {
+    return new JsonObject()
+        .put("data", "abc")
+        .put("integer", 5)
+        .put("number", 25.5)
+        .put("bool", true)
+        .put("localDate", "2024-01-02")
+        .put("localDateTime", "2024-01-02T03:04:05.123")
+        .put("offsetDateTime", "2024-01-02T03:04:05+02:00")
+        .put("ages", new JsonArray().add(3).add(4))
+        .put("tags", new JsonArray().add("aaa").add("bbb"))
+        .put("description", "d");
+  }
+
+  /// request documents that each break one constraint
+  static Stream<Arguments> invalidRequests() {
+    return Stream.of(
+        Arguments.of("data too short", validRequest().put("data", "a")),
+        Arguments.of("data missing", without(validRequest(), "data")),
+        Arguments.of("data not a string", validRequest().put("data", 1)),
+        Arguments.of("integer below min", validRequest().put("integer", 0)),
+        Arguments.of("integer not a number", validRequest().put("integer", "x")),
+        Arguments.of("number above max", validRequest().put("number", 100.5)),
+        Arguments.of("age below min", validRequest().put("ages", new JsonArray().add(1))),
+        Arguments.of("too few tags", validRequest().put("tags", new JsonArray().add("aaa"))),
+        Arguments.of("description too long", validRequest().put("description", "d".repeat(26))));
+  }
+
+  private static JsonObject without(JsonObject json, String key) {
+    json.remove(key);
+    return json;
+  }
+}
@@ -0,0 +1,54 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.example;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import github.benslabbert.vertxjsonwriter.example.dto.CollectionJson;
+import github.benslabbert.vertxjsonwriter.example.dto.ComplexJson;
+import github.benslabbert.vertxjsonwriter.example.dto.PersonJson;
+import github.benslabbert.vertxjsonwriter.example.dto.PrimitiveEntityJson;
+import github.benslabbert.vertxjsonwriter.example.dto.TimesJson;
+import github.benslabbert.vertxjsonwriter.example.schema.GetDataJson;
+import github.benslabbert.vertxjsonwriter.example.schema.RequestJson;
+import io.vertx.core.buffer.Buffer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class SerializedSizeTest {
+
+  private record Case<T>(T value, Function<T, Buffer> toBuffer, ToIntFunction<T> serializedSize) {
+
+    @Override
+    public String toString() {
+      return value.getClass().getSimpleName();
+    }
+  }
+
+  static Stream<Case<?>> cases() {
+    return Stream.of(
+        new Case<>(Samples.person(), PersonJson::toBuffer, PersonJson::serializedSize),
+        new Case<>(
+            Samples.primitiveEntity(),
+            PrimitiveEntityJson::toBuffer,
+            PrimitiveEntityJson::serializedSize),
+        new Case<>(Samples.collection(), CollectionJson::toBuffer, CollectionJson::serializedSize),
+        new Case<>(Samples.times(), TimesJson::toBuffer, TimesJson::serializedSize),
+        new Case<>(Samples.complex(), ComplexJson::toBuffer, ComplexJson::serializedSize),
+        new Case<>(Samples.request(), RequestJson::toBuffer, RequestJson::serializedSize),
+        new Case<>(Samples.getData(), GetDataJson::toBuffer, GetDataJson::serializedSize),
+        new Case<>(Samples.nestedDto(), NestedDtoJson::toBuffer, NestedDtoJson::serializedSize));
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("cases")
+  <T> void boundsTheOutput(Case<T> c) {
+    // Act
+    int size = c.serializedSize().applyAsInt(c.value());
+
+    // Assert
+    assertThat(size).isGreaterThanOrEqualTo(c.toBuffer().apply(c.value()).length());
+  }
+}
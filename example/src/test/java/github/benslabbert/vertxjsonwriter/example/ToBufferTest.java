@@ -0,0 +1,52 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.example;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import github.benslabbert.vertxjsonwriter.example.dto.CollectionJson;
+import github.benslabbert.vertxjsonwriter.example.dto.ComplexJson;
+import github.benslabbert.vertxjsonwriter.example.dto.PersonJson;
+import github.benslabbert.vertxjsonwriter.example.dto.PrimitiveEntityJson;
+import github.benslabbert.vertxjsonwriter.example.dto.TimesJson;
+import github.benslabbert.vertxjsonwriter.example.schema.GetDataJson;
+import github.benslabbert.vertxjsonwriter.example.schema.RequestJson;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class ToBufferTest {
+
+  private record Case<T>(T value, Function<T, Buffer> toBuffer, Function<T, JsonObject> toJson) {
+
+    @Override
+    public String toString() {
+      return value.getClass().getSimpleName();
+    }
+  }
+
+  static Stream<Case<?>> cases() {
+    return Stream.of(
+        new Case<>(Samples.person(), PersonJson::toBuffer, PersonJson::toJson),
+        new Case<>(
+            Samples.primitiveEntity(), PrimitiveEntityJson::toBuffer, PrimitiveEntityJson::toJson),
+        new Case<>(Samples.collection(), CollectionJson::toBuffer, CollectionJson::toJson),
+        new Case<>(Samples.times(), TimesJson::toBuffer, TimesJson::toJson),
+        new Case<>(Samples.complex(), ComplexJson::toBuffer, ComplexJson::toJson),
+        new Case<>(Samples.request(), RequestJson::toBuffer, RequestJson::toJson),
+        new Case<>(Samples.getData(), GetDataJson::toBuffer, GetDataJson::toJson),
+        new Case<>(Samples.nestedDto(), NestedDtoJson::toBuffer, NestedDtoJson::toJson));
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("cases")
+  <T> void toBufferMatchesToJson(Case<T> c) {
+    // Act
+    Buffer buffer = c.toBuffer().apply(c.value());
+
+    // Assert
+    assertThat(buffer.toString()).isEqualTo(c.toJson().apply(c.value()).encode());
+  }
+}
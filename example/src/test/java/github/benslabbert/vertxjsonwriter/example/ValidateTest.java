@@ -0,0 +1,38 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.example;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import github.benslabbert.vertxjsonwriter.example.schema.RequestJson;
+import github.benslabbert.vertxjsonwriter.runtime.ValidationErrors;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class ValidateTest {
+
+  @Test
+  void validDocument() {
+    // Arrange
+    JsonObject json = Samples.validRequest();
+
+    // Act
+    ValidationErrors errors = RequestJson.validate(json);
+
+    // Assert
+    assertThat(errors.isValid()).isTrue();
+    assertThat(RequestJson.getValidator().validate(json).getValid()).isTrue();
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("github.benslabbert.vertxjsonwriter.example.Samples#invalidRequests")
+  void invalidDocument(String name, JsonObject json) {
+    // Act
+    ValidationErrors errors = RequestJson.validate(json);
+
+    // Assert
+    assertThat(errors.isValid()).isFalse();
+    assertThat(RequestJson.getValidator().validate(json).getValid()).isFalse();
+  }
+}
@@ -0,0 +1,58 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.example;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import github.benslabbert.vertxjsonwriter.example.schema.Request;
+import github.benslabbert.vertxjsonwriter.example.schema.RequestJson;
+import github.benslabbert.vertxjsonwriter.runtime.DecodeResult;
+import github.benslabbert.vertxjsonwriter.runtime.ValidationErrors;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class ValidatingFromBufferTest {
+
+  @Test
+  void validDocument() {
+    // Arrange
+    JsonObject json = Samples.validRequest();
+
+    // Act
+    DecodeResult<Request> result = RequestJson.fromBuffer(json.toBuffer(), false);
+
+    // Assert
+    assertThat(result.isValid()).isTrue();
+    assertThat(result.value()).isEqualTo(RequestJson.fromJson(json));
+    assertThrows(UnsupportedOperationException.class, () -> result.value().ages().add(5));
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("github.benslabbert.vertxjsonwriter.example.Samples#invalidRequests")
+  void reportsTheErrorsOfValidate(String name, JsonObject json) {
+    // Act
+    DecodeResult<Request> result = RequestJson.fromBuffer(json.toBuffer(), false);
+
+    // Assert
+    assertThat(result.value()).isNull();
+    assertThat(result.errors().errors())
+        .extracting(ValidationErrors.Error::location)
+        .containsExactlyElementsOf(
+            RequestJson.validate(json).errors().stream()
+                .map(ValidationErrors.Error::location)
+                .toList());
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("github.benslabbert.vertxjsonwriter.example.Samples#invalidRequests")
+  void failFastStopsAtTheFirstError(String name, JsonObject json) {
+    // Act
+    DecodeResult<Request> result = RequestJson.fromBuffer(json.toBuffer(), true);
+
+    // Assert
+    assertThat(result.value()).isNull();
+    assertThat(result.errors().errors()).hasSize(1);
+  }
+}
@@ -1,7 +1,9 @@
 /* Licensed under Apache-2.0 2025. */
 package github.benslabbert.vertxjsonwriter.processor;
 
+import io.vertx.core.json.JsonObject;
 import jakarta.annotation.Nullable;
+import java.util.function.Function;
 
 record ArraySchemaGenerator(
     String fieldName,
@@ -33,4 +35,20 @@ record ArraySchemaGenerator(
 
     return schema + ")";
   }
+
+  @Override
+  public JsonObject toJson(Function<String, JsonObject> objectSchemas) {
+    JsonObject schema =
+        new JsonObject().put("type", "array").put("items", schemaGenerator.toJson(objectSchemas));
+    if (uniqueElements) {
+      schema.put("uniqueItems", true);
+    }
+    if (null != minItems) {
+      schema.put("minItems", minItems);
+    }
+    if (null != maxItems) {
+      schema.put("maxItems", maxItems);
+    }
+    return schema;
+  }
 }
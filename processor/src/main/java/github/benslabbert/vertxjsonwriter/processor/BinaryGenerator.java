@@ -0,0 +1,124 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.processor;
+
+import static github.benslabbert.vertxjsonwriter.processor.Util.getGenericType;
+import static github.benslabbert.vertxjsonwriter.processor.Util.simpleName;
+
+import java.io.PrintWriter;
+import java.util.List;
+import javax.lang.model.type.TypeKind;
+
+/// generates `write`, `encode` and `decode` over a Jackson `JsonFactory` for records annotated
+/// with `@JsonWriter(binary = true)`, reading goes through the generated `fromParser`
+final class BinaryGenerator {
+
+  private BinaryGenerator() {}
+
+  static void binary(PrintWriter out, List<Property> properties, String simpleClassName) {
+    String jsonClassName = simpleClassName + "Json";
+    simpleClassName = simpleClassName.replace('_', '.');
+
+    out.printf("public static byte[] encode(JsonFactory factory, %s o) {%n", simpleClassName);
+    out.printf("return JacksonOutput.write(factory, o, %s::write);%n", jsonClassName);
+    out.println("}");
+    out.println();
+
+    out.printf("public static %s decode(JsonFactory factory, byte[] bytes) {%n", simpleClassName);
+    out.printf("return JsonInput.read(factory, bytes, %s::fromParser);%n", jsonClassName);
+    out.println("}");
+    out.println();
+
+    out.printf(
+        "public static void write(JsonGenerator generator, %s o) throws IOException {%n",
+        simpleClassName);
+    out.println("if (null == o) {");
+    out.println("generator.writeNull();");
+    out.println("return;");
+    out.println("}");
+
+    // the size lets CBOR and MessagePack write a definite length map
+    out.printf("generator.writeStartObject(o, %d);%n", properties.size());
+    for (Property property : properties) {
+      out.printf("generator.writeFieldName(\"%s\");%n", property.name());
+      writeValue(out, property);
+    }
+    out.println("generator.writeEndObject();");
+    out.println("}");
+    out.println();
+  }
+
+  private static void writeValue(PrintWriter out, Property property) {
+    String name = property.name();
+
+    if (!property.isComplex()) {
+      out.printf(
+          "JacksonOutput.%s(generator, o.%s());%n", primitiveWriter(property.kind()), name);
+      return;
+    }
+
+    String className = property.className();
+    if (className.startsWith("java.util.Set")
+        || className.startsWith("java.util.List")
+        || className.startsWith("java.util.Collection")) {
+      out.printf(
+          "JacksonOutput.writeIterable(generator, o.%s(), %s);%n",
+          name, valueWriter(getGenericType(className), "::", property.isEnum()));
+      return;
+    }
+
+    out.printf("%s(generator, o.%s());%n", valueWriter(className, ".", property.isEnum()), name);
+  }
+
+  /// the method writing a value of `className`, `::` makes it a `JacksonOutput.ValueWriter`
+  private static String valueWriter(String className, String separator, boolean isEnum) {
+    if (isEnum) {
+      return "JacksonOutput" + separator + "writeEnum";
+    }
+
+    String writer =
+        switch (className) {
+          case "java.lang.String" -> "writeString";
+          case "java.lang.Boolean" -> "writeBoolean";
+          case "java.lang.Integer" -> "writeInt";
+          case "java.lang.Short" -> "writeShort";
+          case "java.lang.Byte" -> "writeByte";
+          case "java.lang.Character" -> "writeChar";
+          case "java.lang.Long" -> "writeLong";
+          case "java.lang.Float" -> "writeFloat";
+          case "java.lang.Double" -> "writeDouble";
+          case "java.time.LocalDate" -> "writeLocalDate";
+          case "java.time.LocalDateTime" -> "writeLocalDateTime";
+          case "java.time.OffsetDateTime" -> "writeOffsetDateTime";
+          case "int[]" -> "writeIntArray";
+          case "long[]" -> "writeLongArray";
+          case "double[]" -> "writeDoubleArray";
+          case "byte[]" -> "writeBinary";
+          case null -> throw new GenerationException("missing class name");
+          default -> null;
+        };
+
+    if (null != writer) {
+      return "JacksonOutput" + separator + writer;
+    }
+
+    if (className.startsWith("java.")) {
+      throw new GenerationException("Unsupported class: " + className);
+    }
+
+    return "%sJson%swrite".formatted(simpleName(className), separator);
+  }
+
+  private static String primitiveWriter(TypeKind kind) {
+    return switch (kind) {
+      case BOOLEAN -> "writeBoolean";
+      case INT -> "writeInt";
+      case LONG -> "writeLong";
+      case FLOAT -> "writeFloat";
+      case DOUBLE -> "writeDouble";
+      case SHORT -> "writeShort";
+      case CHAR -> "writeChar";
+      case BYTE -> "writeByte";
+      default -> throw new GenerationException("Unsupported primitive type: " + kind);
+    };
+  }
+}
@@ -1,7 +1,9 @@
 /* Licensed under Apache-2.0 2025. */
 package github.benslabbert.vertxjsonwriter.processor;
 
+import io.vertx.core.json.JsonObject;
 import jakarta.annotation.Nullable;
+import java.util.function.Function;
 
 record BooleanSchemaGenerator(@Nullable String fieldName, boolean required)
     implements SchemaGenerator {
@@ -22,4 +24,9 @@ record BooleanSchemaGenerator(@Nullable String fieldName, boolean required)
     schema += "\"%s\", booleanSchema()".formatted(fieldName);
     return schema + ")";
   }
+
+  @Override
+  public JsonObject toJson(Function<String, JsonObject> objectSchemas) {
+    return new JsonObject().put("type", "boolean");
+  }
 }
@@ -0,0 +1,29 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.processor;
+
+import java.io.PrintWriter;
+
+/// generates the event bus codec, the processor lists it in `META-INF/services` so that
+/// `JsonMessageCodec.registerAll` finds it
+final class CodecGenerator {
+
+  static final String CODEC_CLASS_NAME = "Codec";
+
+  private CodecGenerator() {}
+
+  static void codec(PrintWriter out, String simpleClassName) {
+    String jsonClassName = simpleClassName + "Json";
+    simpleClassName = simpleClassName.replace('_', '.');
+
+    out.printf(
+        "public static final class %s extends JsonMessageCodec<%s> {%n",
+        CODEC_CLASS_NAME, simpleClassName);
+    out.printf("public %s() {%n", CODEC_CLASS_NAME);
+    out.printf(
+        "super(%s.class, %s::writeTo, %s::fromBuffer);%n",
+        simpleClassName, jsonClassName, jsonClassName);
+    out.println("}");
+    out.println("}");
+    out.println();
+  }
+}
@@ -36,11 +36,19 @@ class ComplexJsonSchemaGenerator {
       return DateTimeSchemaGenerator.create(property);
     }
 
+    if (Util.isPrimitiveArray(className)) {
+      return handleArrayProperty(property);
+    }
+
     if (isCollectionType(className)) {
       boolean unique = uniqueCollection(className);
       return handleCollectionProperty(property, unique);
     }
 
+    if (property.isEnum()) {
+      return new EnumSchemaGenerator(name, !nullable, className, property.enumConstants());
+    }
+
     return new ObjectSchemaGenerator(name, !nullable, className);
   }
 
@@ -60,6 +68,28 @@ class ComplexJsonSchemaGenerator {
     return className.startsWith("java.util.Set");
   }
 
+  /// the elements of a primitive array are never null, a `byte[]` is a base64 string
+  private static SchemaGenerator handleArrayProperty(Property property) {
+    if (property.className().equals("byte[]")) {
+      return new StringSchemaGenerator(property.name(), !property.nullable(), false, null, null);
+    }
+
+    SchemaGenerator itemSchemaGenerator =
+        switch (property.className()) {
+          case "int[]", "long[]" -> new IntegerSchemaGenerator(null, true, null, null);
+          case "double[]" -> new NumberSchemaGenerator(null, true, null, null);
+          default -> throw new GenerationException("Unsupported array: " + property.className());
+        };
+
+    return new ArraySchemaGenerator(
+        property.name(),
+        !property.nullable(),
+        false,
+        itemSchemaGenerator,
+        property.getSizeMin(),
+        property.getSizeMax());
+  }
+
   private static SchemaGenerator handleCollectionProperty(Property property, boolean unique) {
     List<GenericParameterAnnotation> gpa = property.genericParameterAnnotations();
     var notNull = gpa.stream().anyMatch(f -> f instanceof GenericParameterAnnotation.NotNull);
@@ -86,8 +116,11 @@ class ComplexJsonSchemaGenerator {
     Long maxValue = maybeMax.map(GenericParameterAnnotation.Max::value).orElse(null);
 
     SchemaGenerator itemSchemaGenerator =
-        createItemSchemaGenerator(
-            property.getGenericType(), notNull, notBlank, sizeMin, sizeMax, minValue, maxValue);
+        property.isEnum()
+            ? new EnumSchemaGenerator(
+                null, notNull, property.getGenericType(), property.enumConstants())
+            : createItemSchemaGenerator(
+                property.getGenericType(), notNull, notBlank, sizeMin, sizeMax, minValue, maxValue);
 
     return new ArraySchemaGenerator(
         property.name(),
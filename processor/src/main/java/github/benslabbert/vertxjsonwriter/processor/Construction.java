@@ -0,0 +1,39 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.processor;
+
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.function.Function;
+
+/// how the generated decoders create the record
+enum Construction {
+  /// `new Xxx(...)` with the components in declaration order, the record does not need a builder
+  CONSTRUCTOR,
+  /// `Xxx.builder().a(...).build()`
+  BUILDER;
+
+  /// prints the statement that returns the record, `value` is the expression of each component
+  void print(
+      PrintWriter out,
+      String simpleClassName,
+      List<Property> properties,
+      Function<Property, String> value) {
+    if (this == BUILDER) {
+      out.printf("return %s.builder()%n", simpleClassName);
+      for (Property property : properties) {
+        out.printf(".%s(%s)%n", property.name(), value.apply(property));
+      }
+      out.println(".build();");
+      return;
+    }
+
+    out.printf("return new %s(%n", simpleClassName);
+    for (int i = 0; i < properties.size(); i++) {
+      out.print(value.apply(properties.get(i)));
+      out.println(i < properties.size() - 1 ? "," : ");");
+    }
+    if (properties.isEmpty()) {
+      out.println(");");
+    }
+  }
+}
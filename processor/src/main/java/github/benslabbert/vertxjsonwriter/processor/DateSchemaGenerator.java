@@ -1,6 +1,9 @@
 /* Licensed under Apache-2.0 2025. */
 package github.benslabbert.vertxjsonwriter.processor;
 
+import io.vertx.core.json.JsonObject;
+import java.util.function.Function;
+
 record DateSchemaGenerator(String fieldName, boolean required) implements SchemaGenerator {
 
   static DateSchemaGenerator create(Property property) {
@@ -15,4 +18,9 @@ record DateSchemaGenerator(String fieldName, boolean required) implements Schema
     schema += "\"%s\", stringSchema().with(format(StringFormat.DATE))".formatted(fieldName);
     return schema + ")";
   }
+
+  @Override
+  public JsonObject toJson(Function<String, JsonObject> objectSchemas) {
+    return new JsonObject().put("type", "string").put("format", "date");
+  }
 }
@@ -1,6 +1,9 @@
 /* Licensed under Apache-2.0 2025. */
 package github.benslabbert.vertxjsonwriter.processor;
 
+import io.vertx.core.json.JsonObject;
+import java.util.function.Function;
+
 record DateTimeSchemaGenerator(String fieldName, boolean required) implements SchemaGenerator {
 
   static DateTimeSchemaGenerator create(Property property) {
@@ -15,4 +18,9 @@ record DateTimeSchemaGenerator(String fieldName, boolean required) implements Sc
     schema += "\"%s\", stringSchema().with(format(StringFormat.DATETIME))".formatted(fieldName);
     return schema + ")";
   }
+
+  @Override
+  public JsonObject toJson(Function<String, JsonObject> objectSchemas) {
+    return new JsonObject().put("type", "string").put("format", "date-time");
+  }
 }
@@ -0,0 +1,80 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.processor;
+
+import static github.benslabbert.vertxjsonwriter.processor.Util.getGenericType;
+import static github.benslabbert.vertxjsonwriter.processor.Util.simpleName;
+
+import java.io.PrintWriter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/// generates the tables of each enum the components use, shared by all the codecs of the record.
+///
+/// the names are encoded once and decoding is a `switch` over the names, which returns `null`
+/// instead of throwing like `Enum.valueOf` does
+final class EnumGenerator {
+
+  private EnumGenerator() {}
+
+  static void enums(PrintWriter out, List<Property> properties) {
+    Map<String, List<String>> enums = new LinkedHashMap<>();
+    for (Property property : properties) {
+      if (property.isEnum()) {
+        enums.putIfAbsent(enumClassName(property), property.enumConstants());
+      }
+    }
+
+    Map<String, String> simpleNames = new LinkedHashMap<>();
+    for (Map.Entry<String, List<String>> entry : enums.entrySet()) {
+      String className = entry.getKey();
+      String clash = simpleNames.put(simpleName(className), className);
+      if (null != clash) {
+        throw new GenerationException(
+            "enums %s and %s have the same simple name".formatted(clash, className));
+      }
+
+      out.printf(
+          "private static final %s[] %s = %s.values();%n", className, values(className), className);
+      out.printf(
+          "private static final byte[][] %s = JsonOutput.enumNames(%s);%n",
+          names(className), values(className));
+      out.println();
+
+      out.printf("private static %s %s(String name) {%n", className, lookup(className));
+      out.println("return switch (name) {");
+      for (String constant : entry.getValue()) {
+        out.printf("case \"%s\" -> %s.%s;%n", constant, className, constant);
+      }
+      out.println("default -> null;");
+      out.println("};");
+      out.println("}");
+      out.println();
+    }
+  }
+
+  /// the enum itself or the element type of a collection of enums
+  static String enumClassName(Property property) {
+    String className = property.className();
+    return className.indexOf('<') > 0 ? getGenericType(className) : className;
+  }
+
+  /// the cached `values()`, indexed by ordinal
+  static String values(String className) {
+    return constantPrefix(className) + "_VALUES";
+  }
+
+  /// the quoted json names, indexed by ordinal
+  static String names(String className) {
+    return constantPrefix(className) + "_NAMES";
+  }
+
+  /// the method from name to constant
+  static String lookup(String className) {
+    return "to" + simpleName(className);
+  }
+
+  private static String constantPrefix(String className) {
+    return simpleName(className).replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase();
+  }
+}
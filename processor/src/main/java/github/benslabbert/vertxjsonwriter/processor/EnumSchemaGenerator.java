@@ -0,0 +1,40 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.processor;
+
+import static github.benslabbert.vertxjsonwriter.processor.Util.javaLiteral;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import jakarta.annotation.Nullable;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+record EnumSchemaGenerator(
+    @Nullable String fieldName, boolean required, String enumClassName, List<String> constants)
+    implements SchemaGenerator {
+
+  @Override
+  public String print() {
+    String values =
+        constants.stream()
+            .map(c -> "\"%s\"".formatted(javaLiteral(c)))
+            .collect(Collectors.joining(", "));
+    if (null == fieldName) {
+      return "enumSchema(%s)".formatted(values);
+    }
+
+    String schema = required ? ".requiredProperty(" : ".property(";
+    return schema + "\"%s\", enumSchema(%s))".formatted(fieldName, values);
+  }
+
+  @Override
+  public JsonObject toJson(Function<String, JsonObject> objectSchemas) {
+    return new JsonObject().put("enum", new JsonArray(List.copyOf(constants)));
+  }
+
+  /// the constants as they appear in the error message of the validator
+  String constantsJson() {
+    return new JsonArray(List.copyOf(constants)).encode();
+  }
+}
@@ -0,0 +1,218 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.processor;
+
+import static github.benslabbert.vertxjsonwriter.processor.Util.getGenericType;
+import static github.benslabbert.vertxjsonwriter.processor.Util.simpleName;
+import static github.benslabbert.vertxjsonwriter.processor.Util.sourceName;
+
+import java.io.PrintWriter;
+import java.util.List;
+import javax.lang.model.type.TypeKind;
+
+final class FromBufferGenerator {
+
+  private FromBufferGenerator() {}
+
+  static void fromBuffer(
+      PrintWriter out,
+      List<Property> properties,
+      String simpleClassName,
+      Construction construction) {
+    String jsonClassName = simpleClassName + "Json";
+    simpleClassName = simpleClassName.replace('_', '.');
+
+    fieldNames(out, properties);
+
+    out.printf("public static %s fromBuffer(Buffer buffer) {%n", simpleClassName);
+    out.printf("return JsonInput.read(buffer, %s::fromParser);%n", jsonClassName);
+    out.println("}");
+    out.println();
+
+    out.printf("public static List<%s> fromJsonArray(Buffer buffer) {%n", simpleClassName);
+    out.printf("return JsonInput.readArray(buffer, %s::fromParser);%n", jsonClassName);
+    out.println("}");
+    out.println();
+
+    out.printf(
+        "public static JsonArrayParser<%s> arrayParser(Handler<%s> handler) {%n",
+        simpleClassName, simpleClassName);
+    out.printf("return new JsonArrayParser<>(%s::fromParser, handler);%n", jsonClassName);
+    out.println("}");
+    out.println();
+
+    out.printf(
+        "public static %s fromParser(JsonParser parser) throws IOException {%n", simpleClassName);
+    out.println("if (JsonToken.VALUE_NULL == parser.currentToken()) {");
+    out.println("return null;");
+    out.println("}");
+    out.println("JsonInput.expect(parser, JsonToken.START_OBJECT);");
+
+    for (Property property : properties) {
+      out.printf(
+          "%s %sValue = %s;%n", localType(property), property.name(), initialValue(property));
+      if (property.required()) {
+        out.printf("boolean %sSeen = false;%n", property.name());
+      }
+    }
+
+    fieldLoop(out, jsonClassName);
+    out.println("parser.nextToken();");
+    out.println("switch (field) {");
+
+    for (int i = 0; i < properties.size(); i++) {
+      Property property = properties.get(i);
+      String read = "%sValue = %s;".formatted(property.name(), reader(property, jsonClassName));
+      if (property.required()) {
+        out.printf("case %d -> {%n%s%n%sSeen = true;%n}%n", i, read, property.name());
+      } else {
+        out.printf("case %d -> %s%n", i, read);
+      }
+    }
+
+    out.println("default -> parser.skipChildren();");
+    out.println("}");
+    out.println("}");
+
+    // a missing component is rejected rather than left at its default, the same as fromJson
+    for (Property property : properties) {
+      if (property.required()) {
+        out.printf("if (!%sSeen) {%n", property.name());
+        out.printf("throw JsonInput.missingField(\"%s\");%n", property.name());
+        out.println("}");
+      }
+    }
+
+    construction.print(out, simpleClassName, properties, property -> property.name() + "Value");
+    out.println("}");
+    out.println();
+  }
+
+  /// the names in declaration order, which is the order `writeTo` writes them in. the decoders
+  /// switch over the index of a name, so the name itself is only compared once
+  private static void fieldNames(PrintWriter out, List<Property> properties) {
+    out.println("private static final SerializedString[] PARSER_FIELDS = {");
+    for (Property property : properties) {
+      out.printf("new SerializedString(\"%s\"),%n", property.name());
+    }
+    out.println("};");
+    out.println();
+
+    out.println("private static int fieldIndex(String name) {");
+    out.println("return switch (name) {");
+    for (int i = 0; i < properties.size(); i++) {
+      out.printf("case \"%s\" -> %d;%n", properties.get(i).name(), i);
+    }
+    out.println("default -> JsonInput.UNKNOWN_FIELD;");
+    out.println("};");
+    out.println("}");
+    out.println();
+  }
+
+  /// opens the loop over the fields of an object, the body switches over `field`. the name
+  /// following `field` is expected next
+  static void fieldLoop(PrintWriter out, String jsonClassName) {
+    String next = "JsonInput.nextField(parser, PARSER_FIELDS, %s, %s::fieldIndex)";
+    out.printf(
+        "for (int field = %s; JsonInput.END_OBJECT != field; field = %s) {%n",
+        next.formatted("0", jsonClassName), next.formatted("field + 1", jsonClassName));
+  }
+
+  private static String localType(Property property) {
+    if (!property.isComplex()) {
+      return property.kind().name().toLowerCase();
+    }
+    return sourceName(property.className());
+  }
+
+  private static String initialValue(Property property) {
+    if (property.isComplex()) {
+      return "null";
+    }
+    return switch (property.kind()) {
+      case BOOLEAN -> "false";
+      case CHAR -> "'\\0'";
+      default -> "0";
+    };
+  }
+
+  private static String reader(Property property, String jsonClassName) {
+    if (!property.isComplex()) {
+      return "JsonInput.%s(parser)".formatted(primitiveReader(property.kind()));
+    }
+
+    String className = property.className();
+    if (className.startsWith("java.util.Set")) {
+      return "JsonInput.readSet(parser, %s)"
+          .formatted(elementReader(getGenericType(className), property, jsonClassName));
+    }
+    if (className.startsWith("java.util.List") || className.startsWith("java.util.Collection")) {
+      return "JsonInput.readList(parser, %s)"
+          .formatted(elementReader(getGenericType(className), property, jsonClassName));
+    }
+    if (property.isEnum()) {
+      return "JsonInput.readEnum(parser, %s::%s)"
+          .formatted(jsonClassName, EnumGenerator.lookup(className));
+    }
+
+    String reader = valueReader(className);
+    if (null != reader) {
+      return "JsonInput.%s(parser)".formatted(reader);
+    }
+    return "%sJson.fromParser(parser)".formatted(simpleName(className));
+  }
+
+  private static String elementReader(String className, Property property, String jsonClassName) {
+    if (property.isEnum()) {
+      return "p -> JsonInput.readEnum(p, %s::%s)"
+          .formatted(jsonClassName, EnumGenerator.lookup(className));
+    }
+
+    String reader = valueReader(className);
+    if (null != reader) {
+      return "JsonInput::%s".formatted(reader);
+    }
+    return "%sJson::fromParser".formatted(simpleName(className));
+  }
+
+  private static String valueReader(String className) {
+    return switch (className) {
+      case "java.lang.String" -> "readString";
+      case "java.lang.Boolean" -> "readBoolean";
+      case "java.lang.Integer" -> "readInteger";
+      case "java.lang.Short" -> "readShort";
+      case "java.lang.Byte" -> "readByte";
+      case "java.lang.Character" -> "readCharacter";
+      case "java.lang.Long" -> "readLong";
+      case "java.lang.Float" -> "readFloat";
+      case "java.lang.Double" -> "readDouble";
+      case "java.time.LocalDate" -> "readLocalDate";
+      case "java.time.LocalDateTime" -> "readLocalDateTime";
+      case "java.time.OffsetDateTime" -> "readOffsetDateTime";
+      case "int[]" -> "readIntArray";
+      case "long[]" -> "readLongArray";
+      case "double[]" -> "readDoubleArray";
+      case "byte[]" -> "readBinary";
+      case null -> throw new GenerationException("missing class name");
+      default -> {
+        if (className.startsWith("java.")) {
+          throw new GenerationException("Unsupported class: " + className);
+        }
+        yield null;
+      }
+    };
+  }
+
+  private static String primitiveReader(TypeKind kind) {
+    return switch (kind) {
+      case BOOLEAN -> "readBooleanValue";
+      case INT -> "readIntValue";
+      case LONG -> "readLongValue";
+      case FLOAT -> "readFloatValue";
+      case DOUBLE -> "readDoubleValue";
+      case SHORT -> "readShortValue";
+      case CHAR -> "readCharValue";
+      case BYTE -> "readByteValue";
+      default -> throw new GenerationException("Unsupported primitive type: " + kind);
+    };
+  }
+}
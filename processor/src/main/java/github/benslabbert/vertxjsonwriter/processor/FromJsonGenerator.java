@@ -2,7 +2,9 @@
 package github.benslabbert.vertxjsonwriter.processor;
 
 import static github.benslabbert.vertxjsonwriter.processor.Util.getGenericType;
+import static github.benslabbert.vertxjsonwriter.processor.Util.isPrimitiveArray;
 import static github.benslabbert.vertxjsonwriter.processor.Util.simpleName;
+import static github.benslabbert.vertxjsonwriter.processor.Util.sourceName;
 
 import java.io.PrintWriter;
 import java.util.List;
@@ -12,42 +14,57 @@ class FromJsonGenerator {
 
   private FromJsonGenerator() {}
 
-  static void fromJson(PrintWriter out, List<Property> properties, String simpleClassName) {
+  static void fromJson(
+      PrintWriter out,
+      List<Property> properties,
+      String simpleClassName,
+      Construction construction) {
+    String jsonClassName = simpleClassName + "Json";
     simpleClassName = simpleClassName.replace('_', '.');
+
+    List<Property> required = properties.stream().filter(Property::required).toList();
+    if (!required.isEmpty()) {
+      out.println("private static final String[] REQUIRED_FIELDS = {");
+      for (Property property : required) {
+        out.printf("\"%s\",%n", property.name());
+      }
+      out.println("};");
+      out.println();
+    }
+
     out.printf("public static %s fromJson(JsonObject json) {%n", simpleClassName);
     out.println("if (null == json) {");
     out.println("return null;");
     out.println("}");
-    out.printf("return %s.builder()%n", simpleClassName);
-
-    for (Property property : properties) {
-      String jsonGetter =
-          getJsonGetter(
-              property.name(),
-              property.kind(),
-              property.className(),
-              property.isComplex(),
-              property.nullable());
-      out.printf(".%s(%s)%n", property.name(), jsonGetter);
+    if (!required.isEmpty()) {
+      out.println("JsonInput.requireFields(json, REQUIRED_FIELDS);");
     }
-
-    out.println(".build();");
+    construction.print(
+        out, simpleClassName, properties, property -> getJsonGetter(property, jsonClassName));
     out.println("}");
     out.println();
+
+    collectionReaders(out, properties, jsonClassName);
   }
 
-  private static String getJsonGetter(
-      String name, TypeKind kind, String className, boolean isComplex, boolean nullable) {
+  private static String getJsonGetter(Property property, String jsonClassName) {
+    String name = property.name();
+    String className = property.className();
 
-    if (!isComplex) {
-      return primitiveGetter(kind, name);
+    if (!property.isComplex()) {
+      return primitiveGetter(property.kind(), name);
     }
 
-    if (className.startsWith("java.util.Set")
-        || className.startsWith("java.util.List")
-        || className.startsWith("java.util.Collection")) {
+    if (className.equals("byte[]")) {
+      return "json.getBinary(\"%s\")".formatted(name);
+    }
 
-      return collectionGetter(name, className);
+    if (isCollection(className) || isPrimitiveArray(className)) {
+      return collectionGetter(name);
+    }
+
+    if (property.isEnum()) {
+      return enumGetter("json.getString(\"%s\")".formatted(name), className, jsonClassName);
     }
 
     if (className.startsWith("java.lang.")) {
@@ -55,46 +72,113 @@ class FromJsonGenerator {
     }
 
     if (className.startsWith("java.time.")) {
-      return timeGetter(name, className, nullable);
+      return timeGetter(name, className);
     }
 
     return "%sJson.fromJson(json.getJsonObject(\"%s\"))".formatted(simpleName(className), name);
   }
 
-  private static String collectionGetter(String name, String className) {
-    String collector = "toList()";
-    if (className.startsWith("java.util.Set")) {
-      collector = "collect(Collectors.toSet())";
+  private static String collectionGetter(String name) {
+    return "%sFromJson(json.getJsonArray(\"%s\"))".formatted(name, name);
+  }
+
+  /// an indexed loop per collection component, null elements are skipped the same as `fromBuffer`
+  private static void collectionReaders(
+      PrintWriter out, List<Property> properties, String jsonClassName) {
+    for (Property property : properties) {
+      if (!property.isComplex()) {
+        continue;
+      }
+      if (isPrimitiveArray(property.className()) && !property.className().equals("byte[]")) {
+        arrayReader(out, property);
+        continue;
+      }
+      if (!isCollection(property.className())) {
+        continue;
+      }
+
+      String className = property.className();
+      String genericType = getGenericType(className);
+      String elementType = sourceName(genericType);
+      boolean set = className.startsWith("java.util.Set");
+
+      out.printf(
+          "private static %s %sFromJson(JsonArray array) {%n",
+          sourceName(className), property.name());
+      out.println("if (null == array) {");
+      out.println("return null;");
+      out.println("}");
+      out.println("int size = array.size();");
+      if (set) {
+        out.printf("Set<%s> values = HashSet.newHashSet(size);%n", elementType);
+      } else {
+        out.printf("List<%s> values = new ArrayList<>(size);%n", elementType);
+      }
+      out.println("for (int i = 0; i < size; i++) {");
+      String getter =
+          property.isEnum()
+              ? enumGetter("array.getString(i)", genericType, jsonClassName)
+              : elementGetter(genericType);
+      out.printf("%s value = %s;%n", elementType, getter);
+      out.println("if (null != value) {");
+      out.println("values.add(value);");
+      out.println("}");
+      out.println("}");
+      out.printf(
+          "return Collections.%s(values);%n", set ? "unmodifiableSet" : "unmodifiableList");
+      out.println("}");
+      out.println();
     }
+  }
 
-    String genericType = getGenericType(className);
+  private static void arrayReader(PrintWriter out, Property property) {
+    String className = property.className();
+    String getter =
+        switch (className) {
+          case "int[]" -> "getInteger";
+          case "long[]" -> "getLong";
+          case "double[]" -> "getDouble";
+          default -> throw new GenerationException("Unsupported array type: " + className);
+        };
+
+    out.printf("private static %s %sFromJson(JsonArray array) {%n", className, property.name());
+    out.println("if (null == array) {");
+    out.println("return null;");
+    out.println("}");
+    out.println("int size = array.size();");
+    out.printf("%s values = new %s;%n", className, className.replace("[]", "[size]"));
+    out.println("for (int i = 0; i < size; i++) {");
+    out.printf("values[i] = array.%s(i);%n", getter);
+    out.println("}");
+    out.println("return values;");
+    out.println("}");
+    out.println();
+  }
+
+  private static String elementGetter(String genericType) {
     return switch (genericType) {
-      // if the generic type is a java type we cast
-      // if it is something else, we get a JsonObject type and call a from json class and
-      // collect it
-      case "java.lang.String" ->
-          "json.getJsonArray(\"%s\").stream().filter(Objects::nonNull).map(s -> (String) s).%s"
-              .formatted(name, collector);
-      case "java.lang.Boolean" ->
-          "json.getJsonArray(\"%s\").stream().filter(Objects::nonNull).map(b -> (Boolean) b).%s"
-              .formatted(name, collector);
-      case "java.lang.Integer" ->
-          "json.getJsonArray(\"%s\").stream().filter(Objects::nonNull).map(i -> (Integer) i).%s"
-              .formatted(name, collector);
-      case "java.lang.Long" ->
-          "json.getJsonArray(\"%s\").stream().filter(Objects::nonNull).map(l -> (Long) l).%s"
-              .formatted(name, collector);
-      case "java.lang.Float" ->
-          "json.getJsonArray(\"%s\").stream().filter(Objects::nonNull).map(f -> (Float) f).%s"
-              .formatted(name, collector);
-      case "java.lang.Double" ->
-          "json.getJsonArray(\"%s\").stream().map(d -> (Double) d).%s".formatted(name, collector);
-      default ->
-          "json.getJsonArray(\"%s\").stream().map(obj -> %sJson.fromJson((JsonObject) obj)).%s"
-              .formatted(name, getSimpleName(genericType), collector);
+      case "java.lang.String" -> "array.getString(i)";
+      case "java.lang.Boolean" -> "array.getBoolean(i)";
+      case "java.lang.Integer" -> "array.getInteger(i)";
+      case "java.lang.Long" -> "array.getLong(i)";
+      case "java.lang.Float" -> "array.getFloat(i)";
+      case "java.lang.Double" -> "array.getDouble(i)";
+      default -> "%sJson.fromJson(array.getJsonObject(i))".formatted(simpleName(genericType));
     };
   }
 
+  /// unknown names are rejected the same as `fromBuffer` does
+  private static String enumGetter(String name, String className, String jsonClassName) {
+    return "JsonInput.toEnum(%s, %s::%s)"
+        .formatted(name, jsonClassName, EnumGenerator.lookup(className));
+  }
+
+  private static boolean isCollection(String className) {
+    return className.startsWith("java.util.Set")
+        || className.startsWith("java.util.List")
+        || className.startsWith("java.util.Collection");
+  }
+
   private static String javaLangGetter(String name, String className) {
     return switch (className) {
       case "java.lang.String" -> "json.getString(\"%s\")".formatted(name);
@@ -109,36 +193,16 @@ class FromJsonGenerator {
     };
   }
 
-  private static String timeGetter(String name, String className, boolean nullable) {
-    return switch (className) {
-      case "java.time.LocalDate" -> {
-        if (nullable) {
-          yield "null == json.getString(\"%s\") ? null :"
-              + " LocalDate.parse(json.getString(\"%s\"), DateTimeFormatter.ISO_DATE)";
-        }
-        yield "LocalDate.parse(json.getString(\"%s\"), DateTimeFormatter.ISO_DATE)".formatted(name);
-      }
-      case "java.time.LocalDateTime" -> {
-        if (nullable) {
-          yield "null == json.getString(\"%s\") ? null :"
-              + " LocalDateTime.parse(json.getString(\"%s\"),"
-              + " DateTimeFormatter.ISO_LOCAL_DATE_TIME)";
-        }
-        yield "LocalDateTime.parse(json.getString(\"%s\"), DateTimeFormatter.ISO_LOCAL_DATE_TIME)"
-            .formatted(name);
-      }
-      case "java.time.OffsetDateTime" -> {
-        if (nullable) {
-          yield "null == json.getString(\"%s\") ? null :"
-              + " OffsetDateTime.parse(json.getString(\"%s\"),"
-              + " DateTimeFormatter.ISO_OFFSET_DATE_TIME)";
-        }
-        yield "OffsetDateTime.parse(json.getString(\"%s\"), DateTimeFormatter.ISO_OFFSET_DATE_TIME)"
-            .formatted(name);
-      }
-      case null, default ->
-          throw new GenerationException("Unsupported java.time.* type: " + className);
-    };
+  private static String timeGetter(String name, String className) {
+    String parser =
+        switch (className) {
+          case "java.time.LocalDate" -> "parseLocalDate";
+          case "java.time.LocalDateTime" -> "parseLocalDateTime";
+          case "java.time.OffsetDateTime" -> "parseOffsetDateTime";
+          case null, default ->
+              throw new GenerationException("Unsupported java.time.* type: " + className);
+        };
+    return "JsonTime.%s(json.getString(\"%s\"))".formatted(parser, name);
   }
 
   private static String primitiveGetter(TypeKind kind, String name) {
@@ -150,12 +214,8 @@ class FromJsonGenerator {
       case DOUBLE -> "json.getDouble(\"%s\")".formatted(name);
       case SHORT -> "json.getInteger(\"%s\").shortValue()".formatted(name);
       case CHAR -> "json.getString(\"%s\").charAt(0)".formatted(name);
-      case BYTE -> "json.getBinary(\"%s\")[0]".formatted(name);
+      case BYTE -> "json.getInteger(\"%s\").byteValue()".formatted(name);
       default -> throw new GenerationException("Unsupported primitive type: " + kind);
     };
   }
-
-  private static String getSimpleName(String canonicalName) {
-    return canonicalName.substring(canonicalName.lastIndexOf('.') + 1);
-  }
 }
@@ -1,7 +1,9 @@
 /* Licensed under Apache-2.0 2025. */
 package github.benslabbert.vertxjsonwriter.processor;
 
+import io.vertx.core.json.JsonObject;
 import jakarta.annotation.Nullable;
+import java.util.function.Function;
 
 record IntegerSchemaGenerator(
     @Nullable String fieldName, boolean required, @Nullable Long min, @Nullable Long max)
@@ -31,6 +33,18 @@ record IntegerSchemaGenerator(
     return schema + (null == fieldName ? "" : ")");
   }
 
+  @Override
+  public JsonObject toJson(Function<String, JsonObject> objectSchemas) {
+    JsonObject schema = new JsonObject().put("type", "integer");
+    if (null != min) {
+      schema.put("minimum", min);
+    }
+    if (null != max) {
+      schema.put("maximum", max);
+    }
+    return schema;
+  }
+
   private String applyMax(String schema) {
     if (null != max) {
       schema += ".with(maximum(%d))".formatted(max);
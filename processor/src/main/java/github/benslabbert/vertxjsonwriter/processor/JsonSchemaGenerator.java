@@ -1,26 +1,33 @@
 /* Licensed under Apache-2.0 2025. */
 package github.benslabbert.vertxjsonwriter.processor;
 
+import static github.benslabbert.vertxjsonwriter.processor.Util.javaLiteral;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import jakarta.annotation.Nullable;
 import java.io.PrintWriter;
 import java.util.List;
+import java.util.function.Function;
 
 class JsonSchemaGenerator {
 
   private JsonSchemaGenerator() {}
 
-  static void jsonSchema(PrintWriter out, List<Property> properties) {
+  /// if `constantSchema` is present the schema document is embedded as a string constant,
+  /// otherwise it is created from schemaBuilder() the first time it is used
+  static void jsonSchema(
+      PrintWriter out, List<Property> properties, @Nullable JsonObject constantSchema) {
     writeValidatorMethod(out);
-    writeSchemaMethod(out);
+    if (null == constantSchema) {
+      writeSchemaMethod(out);
+    } else {
+      writeConstantSchemaMethod(out, constantSchema);
+    }
     writeSchemaBuilderMethodStart(out);
 
     for (Property property : properties) {
-      SchemaGenerator schemaGenerator;
-      if (property.isComplex()) {
-        schemaGenerator = ComplexJsonSchemaGenerator.handleComplexProperty(property);
-      } else {
-        schemaGenerator = handlePrimitiveProperty(property);
-      }
-      out.println(schemaGenerator.print());
+      out.println(schemaGenerator(property).print());
       out.println();
     }
 
@@ -28,16 +35,48 @@ class JsonSchemaGenerator {
     out.println("}");
   }
 
+  /// evaluate the object schema at compile time, this is the same document schemaBuilder() creates
+  static JsonObject toJson(List<Property> properties, Function<String, JsonObject> objectSchemas) {
+    JsonObject schemaProperties = new JsonObject();
+    JsonArray required = new JsonArray();
+
+    for (Property property : properties) {
+      SchemaGenerator schemaGenerator = schemaGenerator(property);
+      schemaProperties.put(property.name(), schemaGenerator.toJson(objectSchemas));
+      if (schemaGenerator.required()) {
+        required.add(property.name());
+      }
+    }
+
+    JsonObject schema = new JsonObject().put("type", "object").put("properties", schemaProperties);
+    if (!required.isEmpty()) {
+      schema.put("required", required);
+    }
+    return schema;
+  }
+
+  static SchemaGenerator schemaGenerator(Property property) {
+    if (property.isComplex()) {
+      return ComplexJsonSchemaGenerator.handleComplexProperty(property);
+    }
+    return handlePrimitiveProperty(property);
+  }
+
   private static void writeValidatorMethod(PrintWriter out) {
     out.println(
-"""
+        """
     public static Validator getValidator() {
-        return Validator.create(
-            schema(),
-            new JsonSchemaOptions()
-                .setBaseUri("https://example.com")
-                .setDraft(Draft.DRAFT7)
-                .setOutputFormat(OutputFormat.Basic));
+        return ValidatorHolder.VALIDATOR;
+    }
+
+    private static final class ValidatorHolder {
+        private static final Validator VALIDATOR =
+            Validator.create(
+                schema(),
+                new JsonSchemaOptions()
+                    .setBaseUri("https://example.com")
+                    .setDraft(Draft.DRAFT7)
+                    .setOutputFormat(OutputFormat.Basic));
     }
 """);
     out.println();
@@ -45,9 +84,45 @@ class JsonSchemaGenerator {
 
   private static void writeSchemaMethod(PrintWriter out) {
     out.println(
-"""
+        """
     private static JsonSchema schema() {
-        return JsonSchema.of(schemaBuilder().toJson());
+        return SchemaHolder.SCHEMA;
+    }
+
+    private static final class SchemaHolder {
+        private static final JsonSchema SCHEMA = JsonSchema.of(schemaBuilder().toJson());
+    }
+""");
+    out.println();
+  }
+
+  private static void writeConstantSchemaMethod(PrintWriter out, JsonObject schema) {
+    // a single string constant is limited to 65535 bytes in the class file
+    String json = schema.encode();
+    int chunkSize = 8 * 1024;
+    StringBuilder literal = new StringBuilder();
+    for (int i = 0; i < json.length(); i += chunkSize) {
+      if (i > 0) {
+        literal.append(",\n");
+      }
+      String chunk = json.substring(i, Math.min(json.length(), i + chunkSize));
+      literal.append('"').append(javaLiteral(chunk)).append('"');
+    }
+
+    if (json.length() <= chunkSize) {
+      out.printf("private static final String SCHEMA_JSON = %s;%n", literal);
+    } else {
+      out.printf("private static final String SCHEMA_JSON = String.join(\"\", %s);%n", literal);
+    }
+    out.println();
+    out.println(
+        """
+    private static JsonSchema schema() {
+        return SchemaHolder.SCHEMA;
+    }
+
+    private static final class SchemaHolder {
+        private static final JsonSchema SCHEMA = JsonSchema.of(new JsonObject(SCHEMA_JSON));
     }
 """);
     out.println();
@@ -55,7 +130,7 @@ class JsonSchemaGenerator {
 
   private static void writeSchemaBuilderMethodStart(PrintWriter out) {
     out.println(
-"""
+        """
 public static ObjectSchemaBuilder schemaBuilder() {
     return objectSchema()
 """);
@@ -1,12 +1,35 @@
 /* Licensed under Apache-2.0 2024. */
 package github.benslabbert.vertxjsonwriter.processor;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.exc.InputCoercionException;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.io.CharSink;
 import com.google.googlejavaformat.java.Formatter;
 import com.google.googlejavaformat.java.FormatterException;
 import com.google.googlejavaformat.java.JavaFormatterOptions;
 import github.benslabbert.vertxjsonwriter.annotation.JsonWriter;
+import github.benslabbert.vertxjsonwriter.runtime.DecodeResult;
+import github.benslabbert.vertxjsonwriter.runtime.DirectBuffers;
+import github.benslabbert.vertxjsonwriter.runtime.JacksonOutput;
+import github.benslabbert.vertxjsonwriter.runtime.JsonArrayParser;
+import github.benslabbert.vertxjsonwriter.runtime.JsonInput;
+import github.benslabbert.vertxjsonwriter.runtime.JsonMessageCodec;
+import github.benslabbert.vertxjsonwriter.runtime.JsonOutput;
+import github.benslabbert.vertxjsonwriter.runtime.JsonSize;
+import github.benslabbert.vertxjsonwriter.runtime.JsonTime;
+import github.benslabbert.vertxjsonwriter.runtime.JsonValidation;
+import github.benslabbert.vertxjsonwriter.runtime.PositionalInput;
+import github.benslabbert.vertxjsonwriter.runtime.PositionalOutput;
+import github.benslabbert.vertxjsonwriter.runtime.ValidationErrors;
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.json.schema.Draft;
@@ -19,21 +42,28 @@ import io.vertx.json.schema.common.dsl.ObjectSchemaBuilder;
 import io.vertx.json.schema.common.dsl.Schemas;
 import io.vertx.json.schema.common.dsl.StringFormat;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.Generated;
 import javax.annotation.processing.RoundEnvironment;
@@ -44,14 +74,32 @@ import javax.lang.model.element.NestingKind;
 import javax.lang.model.element.TypeElement;
 import javax.tools.Diagnostic;
 import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
 
 public class JsonWriterProcessor extends AbstractProcessor {
 
+  /// `-Ajsonwriter.schema=constant` evaluates the json schema at compile time and embeds it as a
+  /// string constant, the default `builder` creates it from schemaBuilder() at runtime
+  static final String SCHEMA_OPTION = "jsonwriter.schema";
+
+  /// `-Ajsonwriter.construction=builder` creates decoded records with their `builder()`, the
+  /// default `constructor` calls the canonical constructor so the record does not need a builder
+  static final String CONSTRUCTION_OPTION = "jsonwriter.construction";
+
+  private final Map<String, JsonObject> objectSchemas = new HashMap<>();
+  private final List<String> codecs = new ArrayList<>();
+  private final Set<String> objectSchemasInProgress = new HashSet<>();
+
   @Override
   public Set<String> getSupportedAnnotationTypes() {
     return Set.of(JsonWriter.class.getCanonicalName());
   }
 
+  @Override
+  public Set<String> getSupportedOptions() {
+    return Set.of(SCHEMA_OPTION, CONSTRUCTION_OPTION);
+  }
+
   @Override
   public SourceVersion getSupportedSourceVersion() {
     return SourceVersion.latestSupported();
@@ -74,9 +122,30 @@ public class JsonWriterProcessor extends AbstractProcessor {
       }
     }
 
+    if (roundEnv.processingOver() && !codecs.isEmpty()) {
+      writeCodecServices();
+    }
+
     return true;
   }
 
+  /// lists the generated codecs for `JsonMessageCodec.registerAll`
+  private void writeCodecServices() {
+    String resource = "META-INF/services/" + JsonMessageCodec.class.getCanonicalName();
+    try (Writer writer =
+        processingEnv
+            .getFiler()
+            .createResource(StandardLocation.CLASS_OUTPUT, "", resource)
+            .openWriter()) {
+      for (String codec : codecs) {
+        writer.write(codec);
+        writer.write('\n');
+      }
+    } catch (IOException e) {
+      throw new GenerationException(e);
+    }
+  }
+
   private static class FileSink extends CharSink {
 
     private final JavaFileObject builderFile;
@@ -114,6 +183,23 @@ public class JsonWriterProcessor extends AbstractProcessor {
       return;
     }
 
+    if (!noEscapeOnStrings(properties, e)) {
+      return;
+    }
+
+    JsonWriter jsonWriter = te.getAnnotation(JsonWriter.class);
+    if (jsonWriter.binary() && !nestedRecordsOptIn(properties, e, "binary", JsonWriter::binary)) {
+      return;
+    }
+    if (jsonWriter.validating()
+        && !nestedRecordsOptIn(properties, e, "validating", JsonWriter::validating)) {
+      return;
+    }
+    if (jsonWriter.positional()
+        && !nestedRecordsOptIn(properties, e, "positional", JsonWriter::positional)) {
+      return;
+    }
+
     String annotatedClassName = te.getQualifiedName().toString();
 
     String packageName = null;
@@ -153,10 +239,38 @@ public class JsonWriterProcessor extends AbstractProcessor {
       }
       out.printf("import %s;%n", ImmutableSet.class.getCanonicalName());
       out.printf("import %s;%n", Set.class.getCanonicalName());
+      out.printf("import %s;%n", List.class.getCanonicalName());
+      out.printf("import %s;%n", Collections.class.getCanonicalName());
       out.printf("import %s;%n", JsonObject.class.getCanonicalName());
       out.printf("import %s;%n", JsonArray.class.getCanonicalName());
-      out.printf("import %s;%n", Collectors.class.getCanonicalName());
-      out.printf("import %s;%n", DateTimeFormatter.class.getCanonicalName());
+      out.printf("import %s;%n", Buffer.class.getCanonicalName());
+      out.printf("import %s;%n", JsonOutput.class.getCanonicalName());
+      out.printf("import %s;%n", JsonSize.class.getCanonicalName());
+      out.printf("import %s;%n", DirectBuffers.class.getCanonicalName());
+      out.printf("import %s;%n", ByteBuf.class.getCanonicalName());
+      out.printf("import %s;%n", ByteBuffer.class.getCanonicalName());
+      out.printf("import %s;%n", StandardCharsets.class.getCanonicalName());
+      out.printf("import %s;%n", JsonInput.class.getCanonicalName());
+      out.printf("import %s;%n", JsonArrayParser.class.getCanonicalName());
+      out.printf("import %s;%n", Handler.class.getCanonicalName());
+      out.printf("import %s;%n", JsonTime.class.getCanonicalName());
+      out.printf("import %s;%n", JsonMessageCodec.class.getCanonicalName());
+      out.printf("import %s;%n", JsonParser.class.getCanonicalName());
+      out.printf("import %s;%n", JsonFactory.class.getCanonicalName());
+      out.printf("import %s;%n", JsonGenerator.class.getCanonicalName());
+      out.printf("import %s;%n", JacksonOutput.class.getCanonicalName());
+      out.printf("import %s;%n", PositionalInput.class.getCanonicalName());
+      out.printf("import %s;%n", PositionalOutput.class.getCanonicalName());
+      out.printf("import %s;%n", JsonToken.class.getCanonicalName());
+      out.printf("import %s;%n", IOException.class.getCanonicalName());
+      out.printf("import %s;%n", JsonValidation.class.getCanonicalName());
+      out.printf("import %s;%n", ValidationErrors.class.getCanonicalName());
+      out.printf("import %s;%n", DecodeResult.class.getCanonicalName());
+      out.printf("import %s;%n", DecodeException.class.getCanonicalName());
+      out.printf("import %s;%n", InputCoercionException.class.getCanonicalName());
+      out.printf("import %s;%n", SerializedString.class.getCanonicalName());
+      out.printf("import %s;%n", ArrayList.class.getCanonicalName());
+      out.printf("import %s;%n", HashSet.class.getCanonicalName());
       out.printf("import %s;%n", LocalDate.class.getCanonicalName());
       out.printf("import %s;%n", LocalDateTime.class.getCanonicalName());
       out.printf("import %s;%n", OffsetDateTime.class.getCanonicalName());
@@ -169,7 +283,6 @@ public class JsonWriterProcessor extends AbstractProcessor {
       out.printf("import %s;%n", JsonSchema.class.getCanonicalName());
       out.printf("import %s;%n", ObjectSchemaBuilder.class.getCanonicalName());
       out.printf("import %s;%n", StringFormat.class.getCanonicalName());
-      out.printf("import %s;%n", Objects.class.getCanonicalName());
 
       String keywordsCanonicalName = Keywords.class.getCanonicalName();
       out.printf("import static %s.maxLength;%n", keywordsCanonicalName);
@@ -184,6 +297,7 @@ public class JsonWriterProcessor extends AbstractProcessor {
       String schemasCanonicalName = Schemas.class.getCanonicalName();
       out.printf("import static %s.arraySchema;%n", schemasCanonicalName);
       out.printf("import static %s.booleanSchema;%n", schemasCanonicalName);
+      out.printf("import static %s.enumSchema;%n", schemasCanonicalName);
       out.printf("import static %s.intSchema;%n", schemasCanonicalName);
       out.printf("import static %s.numberSchema;%n", schemasCanonicalName);
       out.printf("import static %s.objectSchema;%n", schemasCanonicalName);
@@ -203,15 +317,134 @@ public class JsonWriterProcessor extends AbstractProcessor {
       out.println("private " + builderSimpleClassName + "() {}");
       out.println();
 
+      EnumGenerator.enums(out, properties);
       ToJsonGenerator.toJson(out, properties, simpleClassName);
-      FromJsonGenerator.fromJson(out, properties, simpleClassName);
-      JsonSchemaGenerator.jsonSchema(out, properties);
+      ToBufferGenerator.toBuffer(out, properties, simpleClassName);
+      Construction construction = construction();
+      FromJsonGenerator.fromJson(out, properties, simpleClassName, construction);
+      FromBufferGenerator.fromBuffer(out, properties, simpleClassName, construction);
+      if (jsonWriter.validating()) {
+        ValidatingFromBufferGenerator.fromBuffer(out, properties, simpleClassName, construction);
+      }
+      ValidateGenerator.validate(out, properties);
+      if (jsonWriter.codec()) {
+        CodecGenerator.codec(out, simpleClassName);
+      }
+      if (jsonWriter.positional()) {
+        PositionalGenerator.positional(
+            out,
+            properties,
+            simpleClassName,
+            construction,
+            PositionalGenerator.fingerprint(properties, this::nestedProperties));
+      }
+      if (jsonWriter.binary()) {
+        BinaryGenerator.binary(out, properties, simpleClassName);
+      }
+      JsonSchemaGenerator.jsonSchema(out, properties, constantSchema(properties));
 
       out.println("}");
     }
 
     JavaFileObject builderFile = processingEnv.getFiler().createSourceFile(builderClassName);
     formatFile(stringWriter, builderFile);
+    if (jsonWriter.codec()) {
+      codecs.add(builderClassName + "$" + CodecGenerator.CODEC_CLASS_NAME);
+    }
+  }
+
+  /// `@NoEscape` only changes how a string is written
+  private boolean noEscapeOnStrings(List<Property> properties, Element e) {
+    for (Property property : properties) {
+      if (property.noEscape() && !property.isString()) {
+        processingEnv
+            .getMessager()
+            .printError("%s.%s is @NoEscape but not a String".formatted(e, property.name()), e);
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /// the generated `write`, validating `fromParser` and `writePositional` call the same method of
+  /// nested records, which only exists if they opted in too. The annotation is only visible on
+  /// records compiled with this one, others are not checked
+  private boolean nestedRecordsOptIn(
+      List<Property> properties, Element e, String option, Predicate<JsonWriter> optedIn) {
+    for (Property property : properties) {
+      String className = property.className();
+      if (!property.isComplex() || null == className) {
+        continue;
+      }
+      if (className.indexOf('<') > 0) {
+        className = Util.getGenericType(className);
+      }
+      if (className.startsWith("java.") || Util.isPrimitiveArray(className)) {
+        continue;
+      }
+
+      TypeElement nested = processingEnv.getElementUtils().getTypeElement(className);
+      JsonWriter annotation = null == nested ? null : nested.getAnnotation(JsonWriter.class);
+      if (null != annotation && !optedIn.test(annotation)) {
+        processingEnv
+            .getMessager()
+            .printError(
+                "%s is %s but %s is not, annotate it with @JsonWriter(%s = true)"
+                    .formatted(e, option, className, option),
+                e);
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private @Nullable JsonObject constantSchema(List<Property> properties) {
+    String mode = processingEnv.getOptions().getOrDefault(SCHEMA_OPTION, "builder");
+    return switch (mode) {
+      case "builder" -> null;
+      case "constant" -> JsonSchemaGenerator.toJson(properties, this::objectSchema);
+      default -> throw new GenerationException("unsupported %s: %s".formatted(SCHEMA_OPTION, mode));
+    };
+  }
+
+  private Construction construction() {
+    String mode = processingEnv.getOptions().getOrDefault(CONSTRUCTION_OPTION, "constructor");
+    return switch (mode) {
+      case "constructor" -> Construction.CONSTRUCTOR;
+      case "builder" -> Construction.BUILDER;
+      default ->
+          throw new GenerationException("unsupported %s: %s".formatted(CONSTRUCTION_OPTION, mode));
+    };
+  }
+
+  private List<Property> nestedProperties(String className) {
+    TypeElement te = processingEnv.getElementUtils().getTypeElement(className);
+    if (null == te) {
+      throw new GenerationException("cannot resolve type: " + className);
+    }
+    return PropertyBuilder.getProperties(te);
+  }
+
+  /// the schema of a nested record, resolved from its source while it is being compiled
+  private JsonObject objectSchema(String className) {
+    JsonObject schema = objectSchemas.get(className);
+    if (null != schema) {
+      return schema;
+    }
+
+    if (!objectSchemasInProgress.add(className)) {
+      throw new GenerationException("recursive type cannot have a constant schema: " + className);
+    }
+
+    TypeElement te = processingEnv.getElementUtils().getTypeElement(className);
+    if (null == te) {
+      throw new GenerationException("cannot resolve type: " + className);
+    }
+
+    schema = JsonSchemaGenerator.toJson(PropertyBuilder.getProperties(te), this::objectSchema);
+    objectSchemasInProgress.remove(className);
+    objectSchemas.put(className, schema);
+    return schema;
   }
 
   private void formatFile(StringWriter writer, JavaFileObject builderFile) {
@@ -3,7 +3,9 @@ package github.benslabbert.vertxjsonwriter.processor;
 
 import static github.benslabbert.vertxjsonwriter.processor.Util.simpleName;
 
+import io.vertx.core.json.JsonObject;
 import jakarta.annotation.Nullable;
+import java.util.function.Function;
 
 record ObjectSchemaGenerator(@Nullable String fieldName, boolean required, String objectClassName)
     implements SchemaGenerator {
@@ -18,4 +20,9 @@ record ObjectSchemaGenerator(@Nullable String fieldName, boolean required, Strin
     String schema = required ? ".requiredProperty(" : ".property(";
     return schema + "\"%s\", %sJson.schemaBuilder())".formatted(fieldName, s);
   }
+
+  @Override
+  public JsonObject toJson(Function<String, JsonObject> objectSchemas) {
+    return objectSchemas.apply(objectClassName);
+  }
 }
@@ -0,0 +1,300 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.processor;
+
+import static github.benslabbert.vertxjsonwriter.processor.Util.getGenericType;
+import static github.benslabbert.vertxjsonwriter.processor.Util.isPrimitiveArray;
+import static github.benslabbert.vertxjsonwriter.processor.Util.simpleName;
+
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import javax.lang.model.type.TypeKind;
+
+/// generates `toPositional`, `fromPositional` and the `writePositional` and `readPositional`
+/// methods they use for nested records, see `PositionalOutput` for the format
+final class PositionalGenerator {
+
+  /// bumped when the wire format of a type changes
+  private static final String VERSION = "positional-1";
+
+  private PositionalGenerator() {}
+
+  static void positional(
+      PrintWriter out,
+      List<Property> properties,
+      String simpleClassName,
+      Construction construction,
+      long fingerprint) {
+    String jsonClassName = simpleClassName + "Json";
+    simpleClassName = simpleClassName.replace('_', '.');
+
+    out.printf("private static final long POSITIONAL_FINGERPRINT = 0x%016xL;%n", fingerprint);
+    out.println();
+
+    out.printf("public static Buffer toPositional(%s o) {%n", simpleClassName);
+    out.printf(
+        "return PositionalOutput.write(POSITIONAL_FINGERPRINT, o, %s::writePositional);%n",
+        jsonClassName);
+    out.println("}");
+    out.println();
+
+    out.printf("public static %s fromPositional(Buffer buffer) {%n", simpleClassName);
+    out.printf(
+        "return PositionalInput.read(buffer, POSITIONAL_FINGERPRINT, %s::readPositional);%n",
+        jsonClassName);
+    out.println("}");
+    out.println();
+
+    List<Property> nullable = properties.stream().filter(Property::nullable).toList();
+
+    out.printf("public static void writePositional(Buffer buffer, %s o) {%n", simpleClassName);
+    for (int i = 0; i < nullable.size(); i += 8) {
+      List<String> bits = new ArrayList<>();
+      for (int bit = 0; bit < 8 && i + bit < nullable.size(); bit++) {
+        bits.add("(null == o.%s() ? %d : 0)".formatted(nullable.get(i + bit).name(), 1 << bit));
+      }
+      out.printf("buffer.appendByte((byte) (%s));%n", String.join(" | ", bits));
+    }
+    for (Property property : properties) {
+      writeValue(out, property);
+    }
+    out.println("}");
+    out.println();
+
+    out.printf("public static %s readPositional(PositionalInput in) {%n", simpleClassName);
+    for (int i = 0; i < nullable.size(); i += 8) {
+      out.printf("byte nulls%d = in.readByte();%n", i / 8);
+    }
+    construction.print(
+        out,
+        simpleClassName,
+        properties,
+        property -> {
+          int index = nullable.indexOf(property);
+          if (index < 0) {
+            return reader(property);
+          }
+          return "(nulls%d & %d) != 0 ? null : %s"
+              .formatted(index / 8, 1 << (index % 8), reader(property));
+        });
+    out.println("}");
+    out.println();
+  }
+
+  /// 64-bit FNV-1a of the component names and types in order, nested records included, so any
+  /// change to the layout gives a different fingerprint
+  static long fingerprint(List<Property> properties, Function<String, List<Property>> nested) {
+    StringBuilder sb = new StringBuilder(VERSION);
+    describe(sb, properties, nested, new HashSet<>());
+
+    long hash = 0xcbf29ce484222325L;
+    for (byte b : sb.toString().getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b & 0xFF;
+      hash *= 0x100000001b3L;
+    }
+    return hash;
+  }
+
+  private static void describe(
+      StringBuilder sb,
+      List<Property> properties,
+      Function<String, List<Property>> nested,
+      Set<String> inProgress) {
+    sb.append('{');
+    for (Property property : properties) {
+      sb.append(property.name()).append(':');
+      if (!property.isComplex()) {
+        sb.append(property.kind()).append(';');
+        continue;
+      }
+
+      String className = property.className();
+      sb.append(className);
+      if (property.nullable()) {
+        sb.append('?');
+      }
+      if (property.isEnum()) {
+        // the constants are written by ordinal
+        sb.append(property.enumConstants()).append(';');
+        continue;
+      }
+
+      String type = isCollection(className) ? getGenericType(className) : className;
+      // a recursive record is only named, its layout is already being described
+      if (!type.startsWith("java.") && !isPrimitiveArray(type) && inProgress.add(type)) {
+        describe(sb, nested.apply(type), nested, inProgress);
+        inProgress.remove(type);
+      }
+      sb.append(';');
+    }
+    sb.append('}');
+  }
+
+  private static void writeValue(PrintWriter out, Property property) {
+    String name = property.name();
+
+    if (!property.isComplex()) {
+      out.printf(
+          "PositionalOutput.%s(buffer, o.%s());%n", primitiveWriter(property.kind()), name);
+      return;
+    }
+
+    String value = "o.%s()".formatted(name);
+    if (property.nullable()) {
+      out.printf("if (null != %s) {%n", value);
+    } else {
+      value = "PositionalOutput.requireNonNull(%s, \"%s\")".formatted(value, name);
+    }
+
+    String className = property.className();
+    if (isCollection(className)) {
+      out.printf(
+          "PositionalOutput.writeCollection(buffer, %s, %s);%n",
+          value, valueWriter(getGenericType(className), "::", property.isEnum()));
+    } else {
+      out.printf("%s(buffer, %s);%n", valueWriter(className, ".", property.isEnum()), value);
+    }
+
+    if (property.nullable()) {
+      out.println("}");
+    }
+  }
+
+  private static String reader(Property property) {
+    if (!property.isComplex()) {
+      return "in.%s()".formatted(primitiveReader(property.kind()));
+    }
+
+    String className = property.className();
+    boolean isEnum = property.isEnum();
+    if (className.startsWith("java.util.Set")) {
+      return "in.readSet(%s)".formatted(valueReader(getGenericType(className), true, isEnum));
+    }
+    if (isCollection(className)) {
+      return "in.readList(%s)".formatted(valueReader(getGenericType(className), true, isEnum));
+    }
+    return valueReader(className, false, isEnum);
+  }
+
+  private static boolean isCollection(String className) {
+    return className.startsWith("java.util.Set")
+        || className.startsWith("java.util.List")
+        || className.startsWith("java.util.Collection");
+  }
+
+  /// `::` makes the writer a `BiConsumer<Buffer, T>`
+  private static String valueWriter(String className, String separator, boolean isEnum) {
+    if (isEnum) {
+      return "PositionalOutput" + separator + "writeEnum";
+    }
+
+    String writer =
+        switch (className) {
+          case "java.lang.String" -> "writeString";
+          case "java.lang.Boolean" -> "writeBoolean";
+          case "java.lang.Integer" -> "writeInt";
+          case "java.lang.Short" -> "writeShort";
+          case "java.lang.Byte" -> "writeByte";
+          case "java.lang.Character" -> "writeChar";
+          case "java.lang.Long" -> "writeLong";
+          case "java.lang.Float" -> "writeFloat";
+          case "java.lang.Double" -> "writeDouble";
+          case "java.time.LocalDate" -> "writeLocalDate";
+          case "java.time.LocalDateTime" -> "writeLocalDateTime";
+          case "java.time.OffsetDateTime" -> "writeOffsetDateTime";
+          case "int[]" -> "writeIntArray";
+          case "long[]" -> "writeLongArray";
+          case "double[]" -> "writeDoubleArray";
+          case "byte[]" -> "writeBinary";
+          case null -> throw new GenerationException("missing class name");
+          default -> null;
+        };
+
+    if (null != writer) {
+      return "PositionalOutput" + separator + writer;
+    }
+
+    if (className.startsWith("java.")) {
+      throw new GenerationException("Unsupported class: " + className);
+    }
+
+    return "%sJson%swritePositional".formatted(simpleName(className), separator);
+  }
+
+  /// `reference` gives a `Function<PositionalInput, T>` instead of an expression
+  private static String valueReader(String className, boolean reference, boolean isEnum) {
+    if (isEnum) {
+      String values = EnumGenerator.values(className);
+      return reference
+          ? "element -> element.readEnum(%s)".formatted(values)
+          : "in.readEnum(%s)".formatted(values);
+    }
+
+    String reader =
+        switch (className) {
+          case "java.lang.String" -> "readString";
+          case "java.lang.Boolean" -> "readBoolean";
+          case "java.lang.Integer" -> "readInt";
+          case "java.lang.Short" -> "readShort";
+          case "java.lang.Byte" -> "readByte";
+          case "java.lang.Character" -> "readChar";
+          case "java.lang.Long" -> "readLong";
+          case "java.lang.Float" -> "readFloat";
+          case "java.lang.Double" -> "readDouble";
+          case "java.time.LocalDate" -> "readLocalDate";
+          case "java.time.LocalDateTime" -> "readLocalDateTime";
+          case "java.time.OffsetDateTime" -> "readOffsetDateTime";
+          case "int[]" -> "readIntArray";
+          case "long[]" -> "readLongArray";
+          case "double[]" -> "readDoubleArray";
+          case "byte[]" -> "readBinary";
+          case null -> throw new GenerationException("missing class name");
+          default -> null;
+        };
+
+    if (null != reader) {
+      return reference ? "PositionalInput::" + reader : "in.%s()".formatted(reader);
+    }
+
+    if (className.startsWith("java.")) {
+      throw new GenerationException("Unsupported class: " + className);
+    }
+
+    String jsonClassName = simpleName(className) + "Json";
+    return reference
+        ? jsonClassName + "::readPositional"
+        : "%s.readPositional(in)".formatted(jsonClassName);
+  }
+
+  private static String primitiveWriter(TypeKind kind) {
+    return switch (kind) {
+      case BOOLEAN -> "writeBoolean";
+      case INT -> "writeInt";
+      case LONG -> "writeLong";
+      case FLOAT -> "writeFloat";
+      case DOUBLE -> "writeDouble";
+      case SHORT -> "writeShort";
+      case CHAR -> "writeChar";
+      case BYTE -> "writeByte";
+      default -> throw new GenerationException("Unsupported primitive type: " + kind);
+    };
+  }
+
+  private static String primitiveReader(TypeKind kind) {
+    return switch (kind) {
+      case BOOLEAN -> "readBoolean";
+      case INT -> "readInt";
+      case LONG -> "readLong";
+      case FLOAT -> "readFloat";
+      case DOUBLE -> "readDouble";
+      case SHORT -> "readShort";
+      case CHAR -> "readChar";
+      case BYTE -> "readByte";
+      default -> throw new GenerationException("Unsupported primitive type: " + kind);
+    };
+  }
+}
@@ -21,24 +21,35 @@ record Property(
     Min min,
     Max max,
     Size size,
-    List<GenericParameterAnnotation> genericParameterAnnotations) {
+    List<GenericParameterAnnotation> genericParameterAnnotations,
+    @Nullable List<String> enumConstants,
+    boolean noEscape) {
 
-  @Nullable Integer getSizeMin() {
+  @Nullable
+  Integer getSizeMin() {
     return null == size || size.min() == 0 ? null : size.min();
   }
 
-  @Nullable Integer getSizeMax() {
+  @Nullable
+  Integer getSizeMax() {
     return null == size || size.max() == Integer.MAX_VALUE ? null : size.max();
   }
 
-  @Nullable Long getMinValue() {
+  @Nullable
+  Long getMinValue() {
     return null == min ? null : min.value();
   }
 
-  @Nullable Long getMaxValue() {
+  @Nullable
+  Long getMaxValue() {
     return null == max ? null : max.value();
   }
 
+  /// a primitive or a component that is not `@Nullable` has to be present in the input
+  boolean required() {
+    return !isComplex || !nullable;
+  }
+
   boolean isString() {
     return kind == TypeKind.DECLARED && className.equals(String.class.getCanonicalName());
   }
@@ -75,6 +86,12 @@ record Property(
     return kind == TypeKind.DECLARED && className.equals(OffsetDateTime.class.getCanonicalName());
   }
 
+  /// the constants in declaration order if the component, or the element of a collection
+  /// component, is an enum
+  boolean isEnum() {
+    return null != enumConstants;
+  }
+
   String getGenericType() {
     return className.substring(className.indexOf('<') + 1, className.indexOf('>'));
   }
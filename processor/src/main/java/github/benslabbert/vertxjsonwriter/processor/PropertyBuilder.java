@@ -2,6 +2,7 @@
 package github.benslabbert.vertxjsonwriter.processor;
 
 import com.palantir.javapoet.TypeName;
+import github.benslabbert.vertxjsonwriter.annotation.NoEscape;
 import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -14,6 +15,7 @@ import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.Name;
 import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
@@ -52,10 +54,23 @@ class PropertyBuilder {
       if (TypeKind.DECLARED == kind) {
         Property property = fromPreparedType(type, re, varName, kind, min, max, size);
         properties.add(property);
+      } else if (TypeKind.ARRAY == kind) {
+        properties.add(fromArrayType((ArrayType) type, re, varName, size));
       } else if (kind.isPrimitive()) {
         Property property =
             new Property(
-                varName.toString(), false, false, null, kind, false, min, max, size, List.of());
+                varName.toString(),
+                false,
+                false,
+                null,
+                kind,
+                false,
+                min,
+                max,
+                size,
+                List.of(),
+                null,
+                null != re.getAnnotation(NoEscape.class));
         properties.add(property);
       } else {
         String msg = String.format("unsupported kind: %s", kind);
@@ -66,6 +81,33 @@ class PropertyBuilder {
     return properties;
   }
 
+  /// `byte[]` is encoded as a base64 string, the other arrays as json arrays without boxing
+  private static Property fromArrayType(
+      ArrayType type, VariableElement re, Name varName, Size size) {
+    TypeKind componentKind = type.getComponentType().getKind();
+    if (TypeKind.INT != componentKind
+        && TypeKind.LONG != componentKind
+        && TypeKind.DOUBLE != componentKind
+        && TypeKind.BYTE != componentKind) {
+      throw new GenerationException("unsupported array type: " + type);
+    }
+
+    boolean nullable = null != re.getAnnotation(Nullable.class);
+    return new Property(
+        varName.toString(),
+        nullable,
+        true,
+        componentKind.name().toLowerCase() + "[]",
+        TypeKind.ARRAY,
+        false,
+        null,
+        null,
+        size,
+        List.of(),
+        null,
+        null != re.getAnnotation(NoEscape.class));
+  }
+
   private static Property fromPreparedType(
       TypeMirror type,
       VariableElement re,
@@ -93,7 +135,26 @@ class PropertyBuilder {
         min,
         max,
         size,
-        genericParameterAnnotations);
+        genericParameterAnnotations,
+        enumConstants((DeclaredType) type),
+        null != re.getAnnotation(NoEscape.class));
+  }
+
+  /// the enum is the component itself or the element of a collection component
+  private static @Nullable List<String> enumConstants(DeclaredType type) {
+    List<? extends TypeMirror> typeArguments = type.getTypeArguments();
+    if (!typeArguments.isEmpty() && typeArguments.getFirst() instanceof DeclaredType elementType) {
+      type = elementType;
+    }
+
+    Element element = type.asElement();
+    if (ElementKind.ENUM != element.getKind()) {
+      return null;
+    }
+    return element.getEnclosedElements().stream()
+        .filter(f -> ElementKind.ENUM_CONSTANT == f.getKind())
+        .map(f -> f.getSimpleName().toString())
+        .toList();
   }
 
   private static List<GenericParameterAnnotation> getGenericParameterAnnotations(
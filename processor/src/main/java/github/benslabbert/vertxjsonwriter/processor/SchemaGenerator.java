@@ -1,15 +1,29 @@
 /* Licensed under Apache-2.0 2025. */
 package github.benslabbert.vertxjsonwriter.processor;
 
+import io.vertx.core.json.JsonObject;
+import jakarta.annotation.Nullable;
+import java.util.function.Function;
+
 sealed interface SchemaGenerator
     permits ArraySchemaGenerator,
         BooleanSchemaGenerator,
         DateSchemaGenerator,
         DateTimeSchemaGenerator,
+        EnumSchemaGenerator,
         IntegerSchemaGenerator,
         NumberSchemaGenerator,
         ObjectSchemaGenerator,
         StringSchemaGenerator {
 
+  @Nullable
+  String fieldName();
+
+  boolean required();
+
   String print();
+
+  /// the json schema of the value evaluated at compile time, `objectSchemas` resolves the schema
+  /// of a nested record by its class name
+  JsonObject toJson(Function<String, JsonObject> objectSchemas);
 }
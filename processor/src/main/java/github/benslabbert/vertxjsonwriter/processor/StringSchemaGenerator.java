@@ -1,7 +1,9 @@
 /* Licensed under Apache-2.0 2025. */
 package github.benslabbert.vertxjsonwriter.processor;
 
+import io.vertx.core.json.JsonObject;
 import jakarta.annotation.Nullable;
+import java.util.function.Function;
 
 record StringSchemaGenerator(
     @Nullable String fieldName,
@@ -21,10 +23,7 @@ record StringSchemaGenerator(
 
   @Override
   public String print() {
-    if (!required && notBlank) {
-      throw new GenerationException(
-          "field '%s' cannot be NotBlank if not required".formatted(fieldName));
-    }
+    checkNotBlank();
 
     String schema;
 
@@ -42,6 +41,30 @@ record StringSchemaGenerator(
     return schema + (null == fieldName ? "" : ")");
   }
 
+  @Override
+  public JsonObject toJson(Function<String, JsonObject> objectSchemas) {
+    checkNotBlank();
+
+    JsonObject schema = new JsonObject().put("type", "string");
+    if (notBlank) {
+      schema.put("pattern", ".*\\S.*");
+    }
+    if (null != minLength) {
+      schema.put("minLength", minLength);
+    }
+    if (null != maxLength) {
+      schema.put("maxLength", maxLength);
+    }
+    return schema;
+  }
+
+  private void checkNotBlank() {
+    if (!required && notBlank) {
+      throw new GenerationException(
+          "field '%s' cannot be NotBlank if not required".formatted(fieldName));
+    }
+  }
+
   private String applyMaxLength(String schema) {
     if (null != maxLength) {
       schema += ".with(maxLength(%d))".formatted(maxLength);
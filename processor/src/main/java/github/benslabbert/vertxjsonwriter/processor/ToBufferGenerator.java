@@ -0,0 +1,264 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.processor;
+
+import static github.benslabbert.vertxjsonwriter.processor.Util.getGenericType;
+import static github.benslabbert.vertxjsonwriter.processor.Util.javaLiteral;
+import static github.benslabbert.vertxjsonwriter.processor.Util.simpleName;
+
+import jakarta.annotation.Nullable;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import javax.lang.model.type.TypeKind;
+
+final class ToBufferGenerator {
+
+  private ToBufferGenerator() {}
+
+  static void toBuffer(PrintWriter out, List<Property> properties, String simpleClassName) {
+    simpleClassName = simpleClassName.replace('_', '.');
+
+    // the quoted field names including the structural byte before them, '{' for the first
+    // field and ',' for the rest, only need to be encoded once. java identifiers never need json
+    // escaping
+    List<String> constants = fieldConstants(properties);
+    for (int i = 0; i < properties.size(); i++) {
+      char prefix = i == 0 ? '{' : ',';
+      String json = prefix + "\"" + properties.get(i).name() + "\":";
+      out.printf(
+          "private static final byte[] %s = \"%s\".getBytes(StandardCharsets.UTF_8);%n",
+          constants.get(i), javaLiteral(json));
+    }
+    out.println();
+
+    out.printf("public static Buffer toBuffer(%s o) {%n", simpleClassName);
+    out.println("Buffer buffer = Buffer.buffer(serializedSize(o));");
+    out.println("writeTo(buffer, o);");
+    out.println("return buffer;");
+    out.println("}");
+    out.println();
+
+    out.printf("public static void writeTo(Buffer buffer, %s o) {%n", simpleClassName);
+    out.println("if (null == o) {");
+    out.println("JsonOutput.writeNull(buffer);");
+    out.println("return;");
+    out.println("}");
+
+    for (int i = 0; i < properties.size(); i++) {
+      out.printf("buffer.appendBytes(%s);%n", constants.get(i));
+      writeValue(out, properties.get(i));
+    }
+
+    out.println("buffer.appendByte((byte) '}');");
+    out.println("}");
+    out.println();
+
+    String jsonClassName = simpleClassName.replace('.', '_') + "Json";
+    out.printf("public static void writeTo(ByteBuf byteBuf, %s o) {%n", simpleClassName);
+    out.println("writeTo(DirectBuffers.wrap(byteBuf), o);");
+    out.println("}");
+    out.println();
+
+    out.printf("public static void writeTo(ByteBuffer byteBuffer, %s o) {%n", simpleClassName);
+    out.printf("DirectBuffers.write(byteBuffer, o, %s::writeTo);%n", jsonClassName);
+    out.println("}");
+    out.println();
+
+    serializedSize(out, properties, simpleClassName);
+
+    out.printf(
+        "public static void writeArrayTo(Buffer buffer, Iterable<%s> values) {%n", simpleClassName);
+    out.printf("JsonOutput.writeArray(buffer, values, %s::writeTo);%n", jsonClassName);
+    out.println("}");
+    out.println();
+  }
+
+  /// the field names and the closing brace are known up front, only the values are sized at
+  /// runtime
+  private static void serializedSize(
+      PrintWriter out, List<Property> properties, String simpleClassName) {
+    int fixed = 1;
+    for (Property property : properties) {
+      // '{' or ',', the quoted name and ':', java identifiers may be non ascii
+      fixed += 4 + property.name().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    out.printf("public static int serializedSize(%s o) {%n", simpleClassName);
+    out.println("if (null == o) {");
+    out.println("return JsonSize.NULL;");
+    out.println("}");
+    out.printf("int size = %d;%n", fixed);
+    for (Property property : properties) {
+      out.printf("size += %s;%n", sizeOf(property));
+    }
+    out.println("return size;");
+    out.println("}");
+    out.println();
+  }
+
+  private static String sizeOf(Property property) {
+    String value = "o.%s()".formatted(property.name());
+    if (!property.isComplex()) {
+      return "JsonSize.%s(%s)".formatted(size(primitiveWriter(property.kind())), value);
+    }
+
+    String className = property.className();
+    if (className.startsWith("java.util.Set")
+        || className.startsWith("java.util.List")
+        || className.startsWith("java.util.Collection")) {
+      String element = getGenericType(className);
+      String elementSize;
+      if (property.isEnum()) {
+        elementSize = "v -> JsonSize.ofEnum(v, %s)".formatted(EnumGenerator.names(element));
+      } else {
+        String writer = writer(element);
+        elementSize =
+            null == writer
+                ? "%sJson::serializedSize".formatted(simpleName(element))
+                : "JsonSize::" + size(writer);
+      }
+      return "JsonSize.ofIterable(%s, %s)".formatted(value, elementSize);
+    }
+
+    if (property.isEnum()) {
+      return "JsonSize.ofEnum(%s, %s)".formatted(value, EnumGenerator.names(className));
+    }
+
+    if (property.noEscape()) {
+      return "JsonSize.ofUnescaped(%s)".formatted(value);
+    }
+
+    String writer = writer(className);
+    if (null == writer) {
+      return "%sJson.serializedSize(%s)".formatted(simpleName(className), value);
+    }
+    return "JsonSize.%s(%s)".formatted(size(writer), value);
+  }
+
+  /// `writeX` in `JsonOutput` is sized by `ofX` in `JsonSize`
+  private static String size(String writer) {
+    return "of" + writer.substring("write".length());
+  }
+
+  /// fieldName -> FIELD_NAME_FIELD, made unique if two names only differ by case
+  private static List<String> fieldConstants(List<Property> properties) {
+    List<String> constants = new ArrayList<>(properties.size());
+    for (int i = 0; i < properties.size(); i++) {
+      String constant =
+          properties.get(i).name().replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase()
+              + "_FIELD";
+      if (constants.contains(constant)) {
+        constant = constant + "_" + i;
+      }
+      constants.add(constant);
+    }
+    return constants;
+  }
+
+  private static void writeValue(PrintWriter out, Property property) {
+    String name = property.name();
+
+    if (!property.isComplex()) {
+      out.printf("JsonOutput.%s(buffer, o.%s());%n", primitiveWriter(property.kind()), name);
+      return;
+    }
+
+    String className = property.className();
+    if (className.startsWith("java.util.Set")
+        || className.startsWith("java.util.List")
+        || className.startsWith("java.util.Collection")) {
+      iterableToBuffer(out, name, className, property.nullable(), property.isEnum());
+      return;
+    }
+
+    if (property.noEscape()) {
+      out.printf("JsonOutput.writeUnescaped(buffer, o.%s());%n", name);
+      return;
+    }
+
+    out.printf("%s;%n", valueWriter(className, "o.%s()".formatted(name), property.isEnum()));
+  }
+
+  private static void iterableToBuffer(
+      PrintWriter out, String name, String className, boolean nullable, boolean isEnum) {
+    if (nullable) {
+      out.printf("if (null == o.%s()) {%n", name);
+      out.println("JsonOutput.writeNull(buffer);");
+      out.println("} else {");
+    }
+
+    out.println("buffer.appendByte((byte) '[');");
+    out.printf("boolean %sFirst = true;%n", name);
+    out.printf("for (var i : o.%s()) {%n", name);
+    out.printf("if (!%sFirst) {%n", name);
+    out.println("buffer.appendByte((byte) ',');");
+    out.println("}");
+    out.printf("%sFirst = false;%n", name);
+    out.printf("%s;%n", valueWriter(getGenericType(className), "i", isEnum));
+    out.println("}");
+    out.println("buffer.appendByte((byte) ']');");
+
+    if (nullable) {
+      out.println("}");
+    }
+  }
+
+  private static String valueWriter(String className, String value, boolean isEnum) {
+    if (isEnum) {
+      return "JsonOutput.writeEnum(buffer, %s, %s)"
+          .formatted(value, EnumGenerator.names(className));
+    }
+
+    String writer = writer(className);
+    if (null != writer) {
+      return "JsonOutput.%s(buffer, %s)".formatted(writer, value);
+    }
+
+    return "%sJson.writeTo(buffer, %s)".formatted(simpleName(className), value);
+  }
+
+  /// the `JsonOutput` method writing `className`, `null` for a record with its own `writeTo`
+  private static @Nullable String writer(String className) {
+    String writer =
+        switch (className) {
+          case "java.lang.String" -> "writeString";
+          case "java.lang.Boolean" -> "writeBoolean";
+          case "java.lang.Integer" -> "writeInt";
+          case "java.lang.Short" -> "writeShort";
+          case "java.lang.Byte" -> "writeByte";
+          case "java.lang.Character" -> "writeChar";
+          case "java.lang.Long" -> "writeLong";
+          case "java.lang.Float" -> "writeFloat";
+          case "java.lang.Double" -> "writeDouble";
+          case "java.time.LocalDate" -> "writeLocalDate";
+          case "java.time.LocalDateTime" -> "writeLocalDateTime";
+          case "java.time.OffsetDateTime" -> "writeOffsetDateTime";
+          case "int[]" -> "writeIntArray";
+          case "long[]" -> "writeLongArray";
+          case "double[]" -> "writeDoubleArray";
+          case "byte[]" -> "writeBinary";
+          case null -> throw new GenerationException("missing class name");
+          default -> null;
+        };
+
+    if (null == writer && className.startsWith("java.")) {
+      throw new GenerationException("Unsupported class: " + className);
+    }
+    return writer;
+  }
+
+  private static String primitiveWriter(TypeKind kind) {
+    return switch (kind) {
+      case BOOLEAN -> "writeBoolean";
+      case INT -> "writeInt";
+      case LONG -> "writeLong";
+      case FLOAT -> "writeFloat";
+      case DOUBLE -> "writeDouble";
+      case SHORT -> "writeShort";
+      case CHAR -> "writeChar";
+      case BYTE -> "writeByte";
+      default -> throw new GenerationException("Unsupported primitive type: " + kind);
+    };
+  }
+}
@@ -2,10 +2,12 @@
 package github.benslabbert.vertxjsonwriter.processor;
 
 import static github.benslabbert.vertxjsonwriter.processor.Util.getGenericType;
+import static github.benslabbert.vertxjsonwriter.processor.Util.isPrimitiveArray;
 import static github.benslabbert.vertxjsonwriter.processor.Util.simpleName;
 
 import java.io.PrintWriter;
 import java.util.List;
+import javax.lang.model.type.TypeKind;
 
 final class ToJsonGenerator {
 
@@ -21,20 +23,27 @@ final class ToJsonGenerator {
       String name = property.name();
 
       if (!property.isComplex()) {
-        out.printf("json.put(\"%s\", o.%s());%n", name, name);
+        // a char is put as a string, the JsonObject has no codec for Character
+        String value = TypeKind.CHAR == property.kind() ? "String.valueOf(o.%s())" : "o.%s()";
+        out.printf("json.put(\"%s\", " + value + ");%n", name, name);
         continue;
       }
 
-      if (className.startsWith("java.lang.")) {
+      if (className.startsWith("java.lang.") || className.equals("byte[]")) {
+        // a byte[] is encoded as base64 by the JsonObject
         out.printf("json.put(\"%s\", o.%s());%n", name, name);
-      } else if (className.startsWith("java.time.")) {
-        timeToJson(out, property.name(), property.className(), property.nullable());
+      } else if (isPrimitiveArray(className)) {
+        arrayToJson(out, property.name(), property.nullable());
       } else if (className.startsWith("java.util.Set")) {
-        iterableToJson(out, property.name(), property.className(), property.nullable());
+        iterableToJson(out, property);
       } else if (className.startsWith("java.util.List")) {
-        iterableToJson(out, property.name(), property.className(), property.nullable());
+        iterableToJson(out, property);
       } else if (className.startsWith("java.util.Collection")) {
-        iterableToJson(out, property.name(), property.className(), property.nullable());
+        iterableToJson(out, property);
+      } else if (property.isEnum()) {
+        out.printf("json.put(\"%s\", null == o.%s() ? null : o.%s().name());%n", name, name, name);
+      } else if (className.startsWith("java.time.")) {
+        timeToJson(out, property.name(), property.className());
       } else {
         out.printf("json.put(\"%s\", %sJson.toJson(o.%s()));%n", name, simpleName(className), name);
       }
@@ -43,61 +52,63 @@ final class ToJsonGenerator {
     out.println("return json;");
     out.println("}");
     out.println();
+
+    out.printf(
+        "public static JsonArray toJsonArray(java.util.Collection<%s> values) {%n",
+        simpleClassName);
+    out.println("List<Object> list = new ArrayList<>(values.size());");
+    out.printf("for (%s value : values) {%n", simpleClassName);
+    out.println("list.add(toJson(value));");
+    out.println("}");
+    out.println("return new JsonArray(list);");
+    out.println("}");
+    out.println();
   }
 
-  private static void timeToJson(PrintWriter out, String name, String className, boolean nullable) {
-    switch (className) {
-      case "java.time.LocalDate" -> {
-        if (nullable) {
-          out.printf(
-              "json.put(\"%s\", null == o.%s() ? null :"
-                  + " o.%s().format(DateTimeFormatter.ISO_DATE));%n",
-              name, name, name);
-        } else {
-          out.printf("json.put(\"%s\", o.%s().format(DateTimeFormatter.ISO_DATE));%n", name, name);
-        }
-      }
-      case "java.time.LocalDateTime" -> {
-        if (nullable) {
-          out.printf(
-              "json.put(\"%s\", null == o.%s() ? null :"
-                  + " o.%s().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));%n",
-              name, name, name);
-        } else {
-          out.printf(
-              "json.put(\"%s\", o.%s().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));%n",
-              name, name);
-        }
-      }
-      case "java.time.OffsetDateTime" -> {
-        if (nullable) {
-          out.printf(
-              "json.put(\"%s\", null == o.%s() ? null :"
-                  + " o.%s().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME));%n",
-              name, name, name);
-        } else {
-          out.printf(
-              "json.put(\"%s\", o.%s().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME));%n",
-              name, name);
-        }
-      }
-      default -> throw new GenerationException("Unsupported class: " + className);
-    }
+  private static void timeToJson(PrintWriter out, String name, String className) {
+    String formatter =
+        switch (className) {
+          case "java.time.LocalDate" -> "formatLocalDate";
+          case "java.time.LocalDateTime" -> "formatLocalDateTime";
+          case "java.time.OffsetDateTime" -> "formatOffsetDateTime";
+          default -> throw new GenerationException("Unsupported class: " + className);
+        };
+    out.printf("json.put(\"%s\", JsonTime.%s(o.%s()));%n", name, formatter, name);
   }
 
-  private static void iterableToJson(
-      PrintWriter out, String name, String className, boolean nullable) {
+  private static void arrayToJson(PrintWriter out, String name, boolean nullable) {
+    if (nullable) {
+      out.printf("if (null != o.%s()) {%n", name);
+    }
+
+    out.printf("JsonArray %s = new JsonArray(new ArrayList<>(o.%s().length));%n", name, name);
+    out.printf("for (var i : o.%s()) {%n", name);
+    out.printf("%s.add(i);%n", name);
+    out.println("}");
+    out.printf("json.put(\"%s\", %s);%n", name, name);
 
     if (nullable) {
+      out.println("}");
+    }
+
+    out.println();
+  }
+
+  private static void iterableToJson(PrintWriter out, Property property) {
+    String name = property.name();
+
+    if (property.nullable()) {
       out.printf("if (null != o.%s()) {%n", name);
     }
 
     out.printf("JsonArray %s = new JsonArray();%n", name);
     out.printf("for (var i : o.%s()) {%n", name);
 
-    String genericType = getGenericType(className);
+    String genericType = getGenericType(property.className());
     if (genericType.startsWith("java.lang.")) {
       out.printf("%s.add(i);%n", name);
+    } else if (property.isEnum()) {
+      out.printf("%s.add(null == i ? null : i.name());%n", name);
     } else {
       var s = genericType.substring(genericType.lastIndexOf('.') + 1);
       out.printf("%s.add(%sJson.toJson(i));%n", name, s);
@@ -106,7 +117,7 @@ final class ToJsonGenerator {
     out.println("}");
     out.printf("json.put(\"%s\", %s);%n", name, name);
 
-    if (nullable) {
+    if (property.nullable()) {
       out.println("}");
     }
 
@@ -9,6 +9,35 @@ final class Util {
     return className.substring(className.indexOf('<') + 1, className.indexOf('>'));
   }
 
+  /// int[], long[], double[] or byte[]
+  static boolean isPrimitiveArray(String className) {
+    return className.endsWith("[]");
+  }
+
+  /// java.util.Set<java.lang.String>
+  /// drop the implicitly imported java.lang package, return java.util.Set<String>
+  static String sourceName(String className) {
+    return className.replace("java.lang.", "");
+  }
+
+  /// the contents of a java string literal, control and non ascii characters are escaped
+  static String javaLiteral(String s) {
+    StringBuilder sb = new StringBuilder(s.length());
+    for (char c : s.toCharArray()) {
+      if (c == '"' || c == '\\') {
+        sb.append('\\').append(c);
+      } else if (c < 0x20) {
+        // octal, unicode escapes of line terminators are not allowed inside a literal
+        sb.append("\\%03o".formatted((int) c));
+      } else if (c > 0x7e) {
+        sb.append("\\u%04x".formatted((int) c));
+      } else {
+        sb.append(c);
+      }
+    }
+    return sb.toString();
+  }
+
   /// my.test.Nested.Inner
   /// if this is an inner type, return Nested_Inner
   static String simpleName(String classname) {
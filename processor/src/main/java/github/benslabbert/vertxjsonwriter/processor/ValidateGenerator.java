@@ -0,0 +1,229 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.processor;
+
+import static github.benslabbert.vertxjsonwriter.processor.Util.javaLiteral;
+import static github.benslabbert.vertxjsonwriter.processor.Util.simpleName;
+
+import jakarta.annotation.Nullable;
+import java.io.PrintWriter;
+import java.util.List;
+
+/// generates straight-line java for the same constraints the json schema describes, the
+/// [SchemaGenerator] of each property is the single source for both
+final class ValidateGenerator {
+
+  private ValidateGenerator() {}
+
+  static void validate(PrintWriter out, List<Property> properties) {
+    out.println("public static ValidationErrors validate(JsonObject json) {");
+    out.println("ValidationErrors errors = new ValidationErrors();");
+    out.println("validate(json, \"#\", errors);");
+    out.println("return errors;");
+    out.println("}");
+    out.println();
+
+    out.println(
+        "public static void validate(JsonObject json, String path, ValidationErrors errors) {");
+
+    for (Property property : properties) {
+      SchemaGenerator schemaGenerator = JsonSchemaGenerator.schemaGenerator(property);
+      String name = property.name();
+      String value = name + "Value";
+
+      out.printf("Object %s = json.getValue(\"%s\");%n", value, name);
+      if (schemaGenerator.required()) {
+        out.printf("if (null == %s && !json.containsKey(\"%s\")) {%n", value, name);
+        out.printf("errors.add(path, JsonValidation.missing(\"%s\"));%n", name);
+        out.println("} else {");
+      } else {
+        out.printf("if (null != %s || json.containsKey(\"%s\")) {%n", value, name);
+      }
+
+      check(out, schemaGenerator, value, name, "path + \"/%s\"".formatted(name));
+      out.println("}");
+    }
+
+    out.println("}");
+    out.println();
+  }
+
+  /// `location` is only evaluated once a check has failed, except for nested objects
+  private static void check(
+      PrintWriter out,
+      SchemaGenerator schemaGenerator,
+      String value,
+      String prefix,
+      String location) {
+    switch (schemaGenerator) {
+      case StringSchemaGenerator s -> {
+        String string = prefix + "String";
+        typeCheck(
+            out, "!(%s instanceof String %s)".formatted(value, string), value, "string", location);
+        if (!s.notBlank() && null == s.minLength() && null == s.maxLength()) {
+          out.println("}");
+          return;
+        }
+
+        out.println("} else {");
+        stringConstraints(out, s, string, prefix, location);
+        out.println("}");
+      }
+      case IntegerSchemaGenerator i -> {
+        typeCheck(
+            out, "!JsonValidation.isInteger(%s)".formatted(value), value, "integer", location);
+        bounds(out, value, prefix, location, i.min(), i.max());
+      }
+      case NumberSchemaGenerator n -> {
+        typeCheck(out, "!(%s instanceof Number)".formatted(value), value, "number", location);
+        bounds(out, value, prefix, location, n.min(), n.max());
+      }
+      case EnumSchemaGenerator e -> {
+        // the enum keyword rejects any other value, whatever its type
+        String string = prefix + "String";
+        out.printf(
+            "if (!(%s instanceof String %s) || null == %s(%s)) {%n",
+            value, string, EnumGenerator.lookup(e.enumClassName()), string);
+        out.printf(
+            "errors.add(%s, JsonValidation.notInEnum(\"%s\"));%n",
+            location, javaLiteral(e.constantsJson()));
+        out.println("}");
+      }
+      case BooleanSchemaGenerator ignore -> {
+        typeCheck(out, "!(%s instanceof Boolean)".formatted(value), value, "boolean", location);
+        out.println("}");
+      }
+      case DateSchemaGenerator ignore -> format(out, value, prefix, location, "isDate", "date");
+      case DateTimeSchemaGenerator ignore ->
+          format(out, value, prefix, location, "isDateTime", "date-time");
+      case ArraySchemaGenerator a -> {
+        String array = prefix + "Array";
+        typeCheck(
+            out, "!(%s instanceof JsonArray %s)".formatted(value, array), value, "array", location);
+        out.println("} else {");
+        if (null != a.minItems()) {
+          out.printf("if (%s.size() < %d) {%n", array, a.minItems());
+          out.printf(
+              "errors.add(%s, JsonValidation.tooFewItems(%s.size(), %d));%n",
+              location, array, a.minItems());
+          out.println("}");
+        }
+        if (null != a.maxItems()) {
+          out.printf("if (%s.size() > %d) {%n", array, a.maxItems());
+          out.printf(
+              "errors.add(%s, JsonValidation.tooManyItems(%s.size(), %d));%n",
+              location, array, a.maxItems());
+          out.println("}");
+        }
+
+        // collections are only supported as record components, so `prefix` is the field name
+        String item = prefix + "Item";
+        String itemLocation = "path + \"/%s/\" + i".formatted(prefix);
+        out.printf("for (int i = 0; i < %s.size(); i++) {%n", array);
+        out.printf("Object %s = %s.getValue(i);%n", item, array);
+        check(out, a.schemaGenerator(), item, item, itemLocation);
+        out.println("}");
+
+        if (a.uniqueElements()) {
+          String duplicate = prefix + "Duplicate";
+          out.printf("int %s = JsonValidation.duplicateIndex(%s);%n", duplicate, array);
+          out.printf("if (%s >= 0) {%n", duplicate);
+          out.printf("errors.add(%s, JsonValidation.duplicateItem(%s));%n", location, duplicate);
+          out.println("}");
+        }
+        out.println("}");
+      }
+      case ObjectSchemaGenerator o -> {
+        String object = prefix + "Object";
+        typeCheck(
+            out,
+            "!(%s instanceof JsonObject %s)".formatted(value, object),
+            value,
+            "object",
+            location);
+        out.println("} else {");
+        out.printf(
+            "%sJson.validate(%s, %s, errors);%n",
+            simpleName(o.objectClassName()), object, location);
+        out.println("}");
+      }
+    }
+  }
+
+  /// checks `string`, a local that is already known to be a string
+  static void stringConstraints(
+      PrintWriter out, StringSchemaGenerator s, String string, String prefix, String location) {
+    if (s.notBlank()) {
+      out.printf("if (JsonValidation.isBlank(%s)) {%n", string);
+      out.printf("errors.add(%s, JsonValidation.blank());%n", location);
+      out.println("}");
+    }
+    if (null == s.minLength() && null == s.maxLength()) {
+      return;
+    }
+
+    String length = prefix + "Length";
+    out.printf("int %s = JsonValidation.length(%s);%n", length, string);
+    if (null != s.minLength()) {
+      out.printf("if (%s < %d) {%n", length, s.minLength());
+      out.printf(
+          "errors.add(%s, JsonValidation.tooShort(%s, %d));%n", location, length, s.minLength());
+      out.println("}");
+    }
+    if (null != s.maxLength()) {
+      out.printf("if (%s > %d) {%n", length, s.maxLength());
+      out.printf(
+          "errors.add(%s, JsonValidation.tooLong(%s, %d));%n", location, length, s.maxLength());
+      out.println("}");
+    }
+  }
+
+  /// opens the block for a value of the wrong type, the caller closes it
+  private static void typeCheck(
+      PrintWriter out, String mismatch, String value, String type, String location) {
+    out.printf("if (%s) {%n", mismatch);
+    out.printf("errors.add(%s, JsonValidation.invalidType(%s, \"%s\"));%n", location, value, type);
+  }
+
+  private static void bounds(
+      PrintWriter out,
+      String value,
+      String prefix,
+      String location,
+      @Nullable Long min,
+      @Nullable Long max) {
+    if (null == min && null == max) {
+      out.println("}");
+      return;
+    }
+
+    String n = prefix + "Number";
+    out.println("} else {");
+    out.printf("Number %s = (Number) %s;%n", n, value);
+    if (null != min) {
+      out.printf("if (JsonValidation.lessThan(%s, %dL)) {%n", n, min);
+      out.printf("errors.add(%s, JsonValidation.lessThanMinimum(%s, %dL));%n", location, n, min);
+      out.println("}");
+    }
+    if (null != max) {
+      out.printf("if (JsonValidation.greaterThan(%s, %dL)) {%n", n, max);
+      out.printf("errors.add(%s, JsonValidation.greaterThanMaximum(%s, %dL));%n", location, n, max);
+      out.println("}");
+    }
+    out.println("}");
+  }
+
+  private static void format(
+      PrintWriter out,
+      String value,
+      String prefix,
+      String location,
+      String predicate,
+      String format) {
+    String string = prefix + "String";
+    typeCheck(
+        out, "!(%s instanceof String %s)".formatted(value, string), value, "string", location);
+    out.printf("} else if (!JsonValidation.%s(%s)) {%n", predicate, string);
+    out.printf("errors.add(%s, JsonValidation.invalidFormat(\"%s\"));%n", location, format);
+    out.println("}");
+  }
+}
@@ -0,0 +1,438 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.processor;
+
+import static github.benslabbert.vertxjsonwriter.processor.Util.getGenericType;
+import static github.benslabbert.vertxjsonwriter.processor.Util.isPrimitiveArray;
+import static github.benslabbert.vertxjsonwriter.processor.Util.javaLiteral;
+import static github.benslabbert.vertxjsonwriter.processor.Util.simpleName;
+import static github.benslabbert.vertxjsonwriter.processor.Util.sourceName;
+
+import jakarta.annotation.Nullable;
+import java.io.PrintWriter;
+import java.util.List;
+
+/// generates a decoder that checks the same constraints as `validate(JsonObject)` while it reads
+/// the tokens, so the input is only walked once and the record is only built if it is valid.
+///
+/// unlike the json schema an explicit `null` is accepted for nullable components, the same as
+/// `fromBuffer` and `writeTo`
+final class ValidatingFromBufferGenerator {
+
+  private ValidatingFromBufferGenerator() {}
+
+  static void fromBuffer(
+      PrintWriter out,
+      List<Property> properties,
+      String simpleClassName,
+      Construction construction) {
+    String jsonClassName = simpleClassName + "Json";
+    simpleClassName = simpleClassName.replace('_', '.');
+
+    out.printf(
+        "public static DecodeResult<%s> fromBuffer(Buffer buffer, boolean failFast) {%n",
+        simpleClassName);
+    out.printf("return JsonInput.read(buffer, failFast, %s::fromParser);%n", jsonClassName);
+    out.println("}");
+    out.println();
+
+    out.printf(
+        "public static %s fromParser(JsonParser parser, String path, ValidationErrors errors)"
+            + " throws IOException {%n",
+        simpleClassName);
+    out.println("if (JsonToken.START_OBJECT != parser.currentToken()) {");
+    out.println("errors.add(path, JsonValidation.invalidType(parser, \"object\"));");
+    out.println("parser.skipChildren();");
+    out.println("return null;");
+    out.println("}");
+
+    for (Property property : properties) {
+      out.printf(
+          "%s %sValue = %s;%n", localType(property), property.name(), initialValue(property));
+      if (property.required()) {
+        out.printf("boolean %sSeen = false;%n", property.name());
+      }
+    }
+
+    FromBufferGenerator.fieldLoop(out, jsonClassName);
+    out.println("JsonToken token = parser.nextToken();");
+    out.println("switch (field) {");
+
+    for (int i = 0; i < properties.size(); i++) {
+      out.printf("case %d -> {%n", i);
+      field(out, properties.get(i));
+      out.println("}");
+    }
+
+    out.println("default -> parser.skipChildren();");
+    out.println("}");
+    out.println("}");
+
+    for (Property property : properties) {
+      if (property.required()) {
+        out.printf("if (!%sSeen) {%n", property.name());
+        out.printf("errors.add(path, JsonValidation.missing(\"%s\"));%n", property.name());
+        out.println("}");
+      }
+    }
+
+    out.println("if (!errors.isValid()) {");
+    out.println("return null;");
+    out.println("}");
+
+    construction.print(out, simpleClassName, properties, property -> property.name() + "Value");
+    out.println("}");
+    out.println();
+  }
+
+  private static void field(PrintWriter out, Property property) {
+    String name = property.name();
+    String target = name + "Value";
+    String location = "path + \"/%s\"".formatted(name);
+
+    if (property.required()) {
+      out.printf("%sSeen = true;%n", name);
+    }
+
+    if (property.nullable()) {
+      out.println("if (JsonToken.VALUE_NULL == token) {");
+      out.printf("%s = null;%n", target);
+      out.print("} else ");
+    }
+
+    SchemaGenerator schemaGenerator = JsonSchemaGenerator.schemaGenerator(property);
+    String className = property.isComplex() ? property.className() : boxed(property);
+
+    if (schemaGenerator instanceof ArraySchemaGenerator array) {
+      if (isPrimitiveArray(className)) {
+        primitiveArray(out, className, array, target, location);
+      } else {
+        collection(out, className, array, target, name, location);
+      }
+      return;
+    }
+
+    value(out, className, schemaGenerator, target, name, location, property.nullable());
+  }
+
+  /// reads the value the parser is positioned on into `target`, `location` is only evaluated once a
+  /// check has failed. `chained` if this continues an `else` that was already printed
+  private static void value(
+      PrintWriter out,
+      String className,
+      @Nullable SchemaGenerator schemaGenerator,
+      String target,
+      String prefix,
+      String location,
+      boolean chained) {
+    if (schemaGenerator instanceof EnumSchemaGenerator e) {
+      enumValue(out, e, target, location, chained);
+      return;
+    }
+
+    switch (className) {
+      case "java.lang.String" -> {
+        typeCheck(out, "JsonToken.VALUE_STRING != parser.currentToken()", "string", location);
+        out.printf("%s = parser.getText();%n", target);
+        if (schemaGenerator instanceof StringSchemaGenerator s) {
+          ValidateGenerator.stringConstraints(out, s, target, prefix, location);
+        }
+        out.println("}");
+      }
+      case "java.lang.Character" -> {
+        // the schema describes a char as a single non blank character string
+        String string = prefix + "String";
+        typeCheck(out, "JsonToken.VALUE_STRING != parser.currentToken()", "string", location);
+        out.printf("String %s = parser.getText();%n", string);
+        out.printf("if (%s.length() != 1 || JsonValidation.isBlank(%s)) {%n", string, string);
+        out.printf("errors.add(%s, JsonValidation.invalidChar());%n", location);
+        out.println("} else {");
+        out.printf("%s = %s.charAt(0);%n", target, string);
+        out.println("}");
+        out.println("}");
+      }
+      case "java.lang.Boolean" -> {
+        typeCheck(out, "!parser.currentToken().isBoolean()", "boolean", location);
+        out.printf("%s = parser.getBooleanValue();%n", target);
+        out.println("}");
+      }
+      case "java.lang.Integer", "java.lang.Long", "java.lang.Short", "java.lang.Byte" -> {
+        typeCheck(out, "!JsonValidation.isIntegerToken(parser)", "integer", location);
+        out.println("try {");
+        out.printf("%s = parser.%s();%n", target, numberGetter(className));
+        if (schemaGenerator instanceof IntegerSchemaGenerator i) {
+          bounds(out, target, location, i.min(), i.max());
+        }
+        out.println("} catch (InputCoercionException e) {");
+        out.printf(
+            "errors.add(%s, JsonValidation.notRepresentable(\"%s\"));%n",
+            location, primitiveName(className));
+        out.println("}");
+        out.println("}");
+      }
+      case "java.lang.Float", "java.lang.Double" -> {
+        typeCheck(out, "!parser.currentToken().isNumeric()", "number", location);
+        out.printf("%s = parser.%s();%n", target, numberGetter(className));
+        if (schemaGenerator instanceof NumberSchemaGenerator n) {
+          bounds(out, target, location, n.min(), n.max());
+        }
+        out.println("}");
+      }
+      case "byte[]" -> {
+        typeCheck(out, "JsonToken.VALUE_STRING != parser.currentToken()", "string", location);
+        out.println("try {");
+        out.printf("%s = JsonInput.readBinary(parser);%n", target);
+        out.println("} catch (DecodeException e) {");
+        out.printf("errors.add(%s, JsonValidation.notRepresentable(\"byte[]\"));%n", location);
+        out.println("}");
+        out.println("}");
+      }
+      case "java.time.LocalDate" ->
+          time(out, target, location, "isDate", "date", "LocalDate", prefix);
+      case "java.time.LocalDateTime" ->
+          time(out, target, location, "isDateTime", "date-time", "LocalDateTime", prefix);
+      case "java.time.OffsetDateTime" ->
+          time(out, target, location, "isDateTime", "date-time", "OffsetDateTime", prefix);
+      default -> {
+        if (className.startsWith("java.")) {
+          throw new GenerationException("Unsupported class: " + className);
+        }
+        // the nested decoder checks for the object itself
+        if (chained) {
+          out.println("{");
+        }
+        out.printf(
+            "%s = %sJson.fromParser(parser, %s, errors);%n",
+            target, simpleName(className), location);
+        if (chained) {
+          out.println("}");
+        }
+      }
+    }
+  }
+
+  /// any value that is not the name of a constant is rejected, the same as the `enum` keyword
+  private static void enumValue(
+      PrintWriter out, EnumSchemaGenerator e, String target, String location, boolean chained) {
+    if (chained) {
+      out.println("{");
+    }
+    out.println("if (JsonToken.VALUE_STRING == parser.currentToken()) {");
+    out.printf("%s = %s(parser.getText());%n", target, EnumGenerator.lookup(e.enumClassName()));
+    out.println("} else {");
+    out.println("parser.skipChildren();");
+    out.println("}");
+    out.printf("if (null == %s) {%n", target);
+    out.printf(
+        "errors.add(%s, JsonValidation.notInEnum(\"%s\"));%n",
+        location, javaLiteral(e.constantsJson()));
+    out.println("}");
+    if (chained) {
+      out.println("}");
+    }
+  }
+
+  /// the items are read without boxing, each one is checked by `JsonInput`
+  private static void primitiveArray(
+      PrintWriter out,
+      String className,
+      ArraySchemaGenerator array,
+      String target,
+      String location) {
+    String reader =
+        switch (className) {
+          case "int[]" -> "readIntArray";
+          case "long[]" -> "readLongArray";
+          case "double[]" -> "readDoubleArray";
+          default -> throw new GenerationException("Unsupported array type: " + className);
+        };
+
+    typeCheck(out, "JsonToken.START_ARRAY != token", "array", location);
+    out.printf("%s = JsonInput.%s(parser, %s, errors);%n", target, reader, location);
+    if (null != array.minItems()) {
+      out.printf("if (%s.length < %d) {%n", target, array.minItems());
+      out.printf(
+          "errors.add(%s, JsonValidation.tooFewItems(%s.length, %d));%n",
+          location, target, array.minItems());
+      out.println("}");
+    }
+    if (null != array.maxItems()) {
+      out.printf("if (%s.length > %d) {%n", target, array.maxItems());
+      out.printf(
+          "errors.add(%s, JsonValidation.tooManyItems(%s.length, %d));%n",
+          location, target, array.maxItems());
+      out.println("}");
+    }
+    out.println("}");
+  }
+
+  private static void collection(
+      PrintWriter out,
+      String className,
+      ArraySchemaGenerator array,
+      String target,
+      String name,
+      String location) {
+    String elementClassName = getGenericType(className);
+    String element = name + "Item";
+    String index = name + "Index";
+    String values = name + "Items";
+
+    boolean set = className.startsWith("java.util.Set");
+    typeCheck(out, "JsonToken.START_ARRAY != token", "array", location);
+    out.printf(
+        "%s<%s> %s = new %s<>();%n",
+        set ? "Set" : "List", sourceName(elementClassName), values, set ? "HashSet" : "ArrayList");
+    out.printf("int %s = 0;%n", index);
+    out.printf(
+        "for (JsonToken %sToken = parser.nextToken(); JsonToken.END_ARRAY != %sToken; %sToken ="
+            + " parser.nextToken(), %s++) {%n",
+        name, name, name, index);
+
+    // items are never null in the json schema
+    out.printf("%s %s = null;%n", sourceName(elementClassName), element);
+    String elementLocation = "path + \"/%s/\" + %s".formatted(name, index);
+    boolean nested =
+        !elementClassName.startsWith("java.")
+            && !(array.schemaGenerator() instanceof EnumSchemaGenerator);
+    if (nested) {
+      out.println("if (JsonToken.VALUE_NULL == parser.currentToken()) {");
+      out.printf(
+          "errors.add(%s, JsonValidation.invalidType(parser, \"object\"));%n", elementLocation);
+      out.print("} else ");
+    }
+    value(
+        out, elementClassName, array.schemaGenerator(), element, element, elementLocation, nested);
+
+    if (array.uniqueElements()) {
+      out.printf("if (null != %s && !%s.add(%s)) {%n", element, values, element);
+      out.printf("errors.add(%s, JsonValidation.duplicateItem(%s));%n", location, index);
+    } else {
+      out.printf("if (null != %s) {%n", element);
+      out.printf("%s.add(%s);%n", values, element);
+    }
+    out.println("}");
+    out.println("}");
+    // unmodifiable, the same as fromJson and fromBuffer
+    out.printf(
+        "%s = Collections.%s(%s);%n", target, set ? "unmodifiableSet" : "unmodifiableList", values);
+
+    if (null != array.minItems()) {
+      out.printf("if (%s < %d) {%n", index, array.minItems());
+      out.printf(
+          "errors.add(%s, JsonValidation.tooFewItems(%s, %d));%n",
+          location, index, array.minItems());
+      out.println("}");
+    }
+    if (null != array.maxItems()) {
+      out.printf("if (%s > %d) {%n", index, array.maxItems());
+      out.printf(
+          "errors.add(%s, JsonValidation.tooManyItems(%s, %d));%n",
+          location, index, array.maxItems());
+      out.println("}");
+    }
+    out.println("}");
+  }
+
+  private static void time(
+      PrintWriter out,
+      String target,
+      String location,
+      String predicate,
+      String format,
+      String type,
+      String prefix) {
+    String string = prefix + "String";
+    typeCheck(out, "JsonToken.VALUE_STRING != parser.currentToken()", "string", location);
+    out.printf("String %s = parser.getText();%n", string);
+    out.printf("if (!JsonValidation.%s(%s)) {%n", predicate, string);
+    out.printf("errors.add(%s, JsonValidation.invalidFormat(\"%s\"));%n", location, format);
+    out.println("} else {");
+    // the format also allows values the java type does not, like an offset on a LocalDateTime
+    out.println("try {");
+    out.printf("%s = JsonInput.read%s(parser);%n", target, type);
+    out.println("} catch (DecodeException e) {");
+    out.printf("errors.add(%s, JsonValidation.notRepresentable(\"%s\"));%n", location, type);
+    out.println("}");
+    out.println("}");
+    out.println("}");
+  }
+
+  /// opens the block that reads a value of the right type, the caller closes it
+  private static void typeCheck(PrintWriter out, String mismatch, String type, String location) {
+    out.printf("if (%s) {%n", mismatch);
+    out.printf("errors.add(%s, JsonValidation.invalidType(parser, \"%s\"));%n", location, type);
+    out.println("parser.skipChildren();");
+    out.println("} else {");
+  }
+
+  private static void bounds(
+      PrintWriter out, String value, String location, @Nullable Long min, @Nullable Long max) {
+    if (null != min) {
+      out.printf("if (%s < %dL) {%n", value, min);
+      out.printf(
+          "errors.add(%s, JsonValidation.lessThanMinimum(%s, %dL));%n", location, value, min);
+      out.println("}");
+    }
+    if (null != max) {
+      out.printf("if (%s > %dL) {%n", value, max);
+      out.printf(
+          "errors.add(%s, JsonValidation.greaterThanMaximum(%s, %dL));%n", location, value, max);
+      out.println("}");
+    }
+  }
+
+  private static String numberGetter(String className) {
+    return switch (className) {
+      case "java.lang.Integer" -> "getIntValue";
+      case "java.lang.Long" -> "getLongValue";
+      case "java.lang.Short" -> "getShortValue";
+      case "java.lang.Byte" -> "getByteValue";
+      case "java.lang.Float" -> "getFloatValue";
+      case "java.lang.Double" -> "getDoubleValue";
+      default -> throw new GenerationException("Unsupported number class: " + className);
+    };
+  }
+
+  private static String primitiveName(String className) {
+    return switch (className) {
+      case "java.lang.Integer" -> "int";
+      case "java.lang.Long" -> "long";
+      case "java.lang.Short" -> "short";
+      case "java.lang.Byte" -> "byte";
+      default -> throw new GenerationException("Unsupported integer class: " + className);
+    };
+  }
+
+  /// primitive components are read the same way as their wrapper
+  private static String boxed(Property property) {
+    return switch (property.kind()) {
+      case BOOLEAN -> "java.lang.Boolean";
+      case INT -> "java.lang.Integer";
+      case LONG -> "java.lang.Long";
+      case FLOAT -> "java.lang.Float";
+      case DOUBLE -> "java.lang.Double";
+      case SHORT -> "java.lang.Short";
+      case CHAR -> "java.lang.Character";
+      case BYTE -> "java.lang.Byte";
+      default -> throw new GenerationException("Unsupported primitive type: " + property.kind());
+    };
+  }
+
+  private static String localType(Property property) {
+    if (!property.isComplex()) {
+      return property.kind().name().toLowerCase();
+    }
+    return sourceName(property.className());
+  }
+
+  private static String initialValue(Property property) {
+    if (property.isComplex()) {
+      return "null";
+    }
+    return switch (property.kind()) {
+      case BOOLEAN -> "false";
+      case CHAR -> "'\\0'";
+      default -> "0";
+    };
+  }
+}
@@ -10,11 +10,19 @@ import java.net.URL;
 import java.util.stream.Stream;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class JsonWriterProcessorTest {
 
   static Stream<String> source() {
-    return Stream.of("Example.java", "Nested.java", "Primitive.java");
+    return Stream.of(
+        "Example.java",
+        "Nested.java",
+        "Primitive.java",
+        "PrimitiveArray.java",
+        "Enums.java",
+        "Binary.java",
+        "OptIn.java");
   }
 
   @ParameterizedTest
@@ -28,4 +36,66 @@ class JsonWriterProcessorTest {
         .processedWith(new JsonWriterProcessor())
         .compilesWithoutError();
   }
+
+  @ParameterizedTest
+  @MethodSource("source")
+  void constantSchema(String className) {
+    URL resource = this.getClass().getClassLoader().getResource(className);
+    assertThat(resource).isNotNull();
+
+    assertAbout(JavaSourceSubjectFactory.javaSource())
+        .that(JavaFileObjects.forResource(resource))
+        .withCompilerOptions("-A" + JsonWriterProcessor.SCHEMA_OPTION + "=constant")
+        .processedWith(new JsonWriterProcessor())
+        .compilesWithoutError();
+  }
+
+  @ParameterizedTest
+  @MethodSource("source")
+  void builderConstruction(String className) {
+    URL resource = this.getClass().getClassLoader().getResource(className);
+    assertThat(resource).isNotNull();
+
+    assertAbout(JavaSourceSubjectFactory.javaSource())
+        .that(JavaFileObjects.forResource(resource))
+        .withCompilerOptions("-A" + JsonWriterProcessor.CONSTRUCTION_OPTION + "=builder")
+        .processedWith(new JsonWriterProcessor())
+        .compilesWithoutError();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"binary", "validating", "positional"})
+  void nestedRecordsMustOptIn(String option) {
+    assertAbout(JavaSourceSubjectFactory.javaSource())
+        .that(
+            JavaFileObjects.forSourceLines(
+                "my.test.Outer",
+                "package my.test;",
+                "import github.benslabbert.vertxjsonwriter.annotation.JsonWriter;",
+                "@JsonWriter(" + option + " = true)",
+                "public record Outer(Inner inner) {",
+                "  @JsonWriter",
+                "  public record Inner(String name) {}",
+                "}"))
+        .processedWith(new JsonWriterProcessor())
+        .failsToCompile()
+        .withErrorContaining("is " + option + " but");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"int", "Integer", "java.util.List<String>"})
+  void noEscapeOnlyOnStrings(String type) {
+    assertAbout(JavaSourceSubjectFactory.javaSource())
+        .that(
+            JavaFileObjects.forSourceLines(
+                "my.test.Code",
+                "package my.test;",
+                "import github.benslabbert.vertxjsonwriter.annotation.JsonWriter;",
+                "import github.benslabbert.vertxjsonwriter.annotation.NoEscape;",
+                "@JsonWriter",
+                "public record Code(@NoEscape " + type + " code) {}"))
+        .processedWith(new JsonWriterProcessor())
+        .failsToCompile()
+        .withErrorContaining("my.test.Code.code is @NoEscape but not a String");
+  }
 }
@@ -3,7 +3,9 @@ package github.benslabbert.vertxjsonwriter.processor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.vertx.core.json.JsonObject;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -48,4 +50,18 @@ class ObjectSchemaGeneratorTest {
     // Assert
     assertThat(result).isEqualTo(expected);
   }
+
+  @Test
+  void testToJson() {
+    // Arrange
+    ObjectSchemaGenerator generator = new ObjectSchemaGenerator("testField", true, "TestObject");
+    JsonObject schema = new JsonObject().put("type", "object");
+
+    // Act
+    JsonObject result =
+        generator.toJson(className -> "TestObject".equals(className) ? schema : null);
+
+    // Assert
+    assertThat(result).isSameAs(schema);
+  }
 }
@@ -4,6 +4,7 @@ package github.benslabbert.vertxjsonwriter.processor;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import io.vertx.core.json.JsonObject;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -84,6 +85,24 @@ class StringSchemaGeneratorTest {
     assertThat(result).isEqualTo(expected);
   }
 
+  @Test
+  void testToJson() {
+    // Arrange
+    StringSchemaGenerator generator = new StringSchemaGenerator("testField", true, true, 5, 10);
+
+    // Act
+    JsonObject result = generator.toJson(className -> new JsonObject());
+
+    // Assert
+    assertThat(result)
+        .isEqualTo(
+            new JsonObject()
+                .put("type", "string")
+                .put("pattern", ".*\\S.*")
+                .put("minLength", 5)
+                .put("maxLength", 10));
+  }
+
   @Test
   void testNotBlankWithoutRequired() {
     // Arrange
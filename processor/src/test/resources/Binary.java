@@ -0,0 +1,108 @@
+/* Licensed under Apache-2.0 2026. */
+package my.test;
+
+import github.benslabbert.vertxjsonwriter.annotation.JsonWriter;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Set;
+
+@JsonWriter(binary = true)
+public record Binary(
+    @NotBlank String name,
+    int number,
+    boolean bool,
+    float fl,
+    double dub,
+    short sh,
+    char ch,
+    byte b,
+    long l,
+    @Nullable Integer boxed,
+    LocalDate date,
+    LocalDateTime time,
+    OffsetDateTime offsetDateTime,
+    Set<@NotNull String> tags,
+    Inner inner,
+    int[] ints,
+    @Nullable double[] doubles,
+    @Nullable byte[] bytes,
+    Status status,
+    @Size(min = 1) List<@NotNull Status> history,
+    @Nullable Set<DayOfWeek> days) {
+
+  public enum Status {
+    NEW,
+    CLOSED
+  }
+
+  public static Builder builder() {
+    return null;
+  }
+
+  public interface Builder {
+    Builder name(String name);
+
+    Builder number(int number);
+
+    Builder bool(boolean bool);
+
+    Builder fl(float fl);
+
+    Builder dub(double dub);
+
+    Builder sh(short sh);
+
+    Builder ch(char ch);
+
+    Builder b(byte b);
+
+    Builder l(long l);
+
+    Builder boxed(@Nullable Integer boxed);
+
+    Builder date(LocalDate date);
+
+    Builder time(LocalDateTime time);
+
+    Builder offsetDateTime(OffsetDateTime offsetDateTime);
+
+    Builder tags(Set<String> tags);
+
+    Builder inner(Inner inner);
+
+    Builder ints(int[] ints);
+
+    Builder doubles(@Nullable double[] doubles);
+
+    Builder bytes(@Nullable byte[] bytes);
+
+    Builder status(Status status);
+
+    Builder history(List<Status> history);
+
+    Builder days(@Nullable Set<DayOfWeek> days);
+
+    Binary build();
+  }
+
+  @JsonWriter(binary = true)
+  public record Inner(String innerName) {
+
+    public static Builder builder() {
+      return null;
+    }
+
+    public interface Builder {
+      Builder innerName(String innerName);
+
+      Inner build();
+    }
+  }
+}
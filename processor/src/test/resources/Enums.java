@@ -0,0 +1,40 @@
+/* Licensed under Apache-2.0 2026. */
+package my.test;
+
+import github.benslabbert.vertxjsonwriter.annotation.JsonWriter;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.DayOfWeek;
+import java.util.List;
+import java.util.Set;
+
+@JsonWriter
+public record Enums(
+    Status status,
+    @Nullable Status previous,
+    @Size(min = 1) List<@NotNull Status> history,
+    @Nullable Set<DayOfWeek> days) {
+
+  public enum Status {
+    NEW,
+    ACTIVE,
+    CLOSED
+  }
+
+  public static Builder builder() {
+    return null;
+  }
+
+  public interface Builder {
+    Builder status(Status status);
+
+    Builder previous(@Nullable Status previous);
+
+    Builder history(List<Status> history);
+
+    Builder days(@Nullable Set<DayOfWeek> days);
+
+    Enums build();
+  }
+}
@@ -0,0 +1,30 @@
+/* Licensed under Apache-2.0 2026. */
+package my.test;
+
+import github.benslabbert.vertxjsonwriter.annotation.JsonWriter;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.Size;
+
+@JsonWriter
+public record PrimitiveArray(
+    @Size(min = 1, max = 4) int[] ints,
+    long[] longs,
+    @Nullable double[] doubles,
+    @Nullable byte[] bytes) {
+
+  public static Builder builder() {
+    return null;
+  }
+
+  public interface Builder {
+    Builder ints(int[] ints);
+
+    Builder longs(long[] longs);
+
+    Builder doubles(@Nullable double[] doubles);
+
+    Builder bytes(@Nullable byte[] bytes);
+
+    PrimitiveArray build();
+  }
+}
@@ -0,0 +1,13 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.runtime;
+
+import jakarta.annotation.Nullable;
+
+/// The result of the `{ORIGINAL_CLASS_NAME}Json.fromBuffer(Buffer, boolean)` methods generated for
+/// `@JsonWriter(validating = true)`, `value` is only present if there are no `errors`.
+public record DecodeResult<T>(@Nullable T value, ValidationErrors errors) {
+
+  public boolean isValid() {
+    return errors.isValid();
+  }
+}
@@ -0,0 +1,87 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.runtime;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.WriteStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/// Encoding straight into direct memory, used by the generated `writeTo(ByteBuf, ...)` and
+/// `writeTo(ByteBuffer, ...)` methods.
+///
+/// ```java
+/// DirectBuffers.end(response, request, RequestJson.serializedSize(request), RequestJson::writeTo);
+/// ```
+///
+/// The bytes are written once into a pooled direct `ByteBuf` and netty hands that memory to the
+/// socket as is, a heap [Buffer] is copied into a direct one first.
+///
+/// There is no `MemorySegment` overload, the foreign memory API is a preview in JDK 21 which the
+/// modules are built with. From JDK 22 a segment is written in place through its `ByteBuffer` view,
+/// `RequestJson.writeTo(segment.asByteBuffer(), request)`.
+public final class DirectBuffers {
+
+  private DirectBuffers() {}
+
+  /// a [Buffer] appending to `byteBuf` at its writer index, growing it if it may grow
+  public static Buffer wrap(ByteBuf byteBuf) {
+    return InternalBuffers.wrap(byteBuf);
+  }
+
+  /// writes from the position of `target` and moves the position past the written bytes, a
+  /// [BufferOverflowException] if they do not fit in the remaining bytes
+  public static <T> void write(ByteBuffer target, T value, BiConsumer<Buffer, T> writer) {
+    ByteBuf byteBuf = Unpooled.wrappedBuffer(target).clear();
+    try {
+      writer.accept(wrap(byteBuf), value);
+    } catch (IndexOutOfBoundsException e) {
+      BufferOverflowException overflow = new BufferOverflowException();
+      overflow.initCause(e);
+      throw overflow;
+    }
+    target.position(target.position() + byteBuf.writerIndex());
+  }
+
+  /// writes the value to the stream from a pooled direct buffer of `sizeHint` bytes, which goes
+  /// back to the pool once the write completed
+  public static <T> Future<Void> write(
+      WriteStream<Buffer> stream, T value, int sizeHint, BiConsumer<Buffer, T> writer) {
+    return send(encode(value, sizeHint, writer), stream::write);
+  }
+
+  /// like [#write(WriteStream, Object, int, BiConsumer)], but ends the stream with the value,
+  /// e.g. an `HttpServerResponse`
+  public static <T> Future<Void> end(
+      WriteStream<Buffer> stream, T value, int sizeHint, BiConsumer<Buffer, T> writer) {
+    return send(encode(value, sizeHint, writer), stream::end);
+  }
+
+  /// the pooled buffer goes back once the future completed, or right away if `send` throws
+  private static Future<Void> send(ByteBuf byteBuf, Function<Buffer, Future<Void>> send) {
+    Future<Void> future;
+    try {
+      future = send.apply(wrap(byteBuf));
+    } catch (RuntimeException e) {
+      byteBuf.release();
+      throw e;
+    }
+    return future.onComplete(ar -> byteBuf.release());
+  }
+
+  private static <T> ByteBuf encode(T value, int sizeHint, BiConsumer<Buffer, T> writer) {
+    ByteBuf byteBuf = PooledByteBufAllocator.DEFAULT.directBuffer(sizeHint);
+    try {
+      writer.accept(wrap(byteBuf), value);
+    } catch (RuntimeException e) {
+      byteBuf.release();
+      throw e;
+    }
+    return byteBuf;
+  }
+}
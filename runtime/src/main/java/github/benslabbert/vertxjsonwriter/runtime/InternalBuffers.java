@@ -0,0 +1,27 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.runtime;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import jakarta.annotation.Nullable;
+
+/// The only use of the non-public `io.vertx.core.internal` API.
+///
+/// The public [Buffer] can neither be created over a netty [ByteBuf] nor be emptied for reuse,
+/// which [DirectBuffers] and [JsonBuffers] need. `BufferInternal` is not covered by the vert.x
+/// compatibility guarantees, so it is kept behind these two methods.
+final class InternalBuffers {
+
+  private InternalBuffers() {}
+
+  /// a [Buffer] reading and writing through to `byteBuf`
+  static Buffer wrap(ByteBuf byteBuf) {
+    return BufferInternal.buffer(byteBuf);
+  }
+
+  /// the netty buffer behind `buffer`, which may be a view of the memory it was created over
+  static @Nullable ByteBuf byteBuf(Buffer buffer) {
+    return buffer instanceof BufferInternal internal ? internal.getByteBuf() : null;
+  }
+}
@@ -0,0 +1,212 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.runtime;
+
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.vertx.core.json.EncodeException;
+import jakarta.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+
+/// Writes values to a Jackson [JsonGenerator].
+///
+/// Used by the generated `{ORIGINAL_CLASS_NAME}Json.write` methods of records annotated with
+/// `@JsonWriter(binary = true)`. The format is chosen by the [JsonFactory], a `CBORFactory`,
+/// `SmileFactory` or `MessagePackFactory` gives a binary encoding of the same document that
+/// `toJson` describes. Dates are written as ISO strings, the same as in JSON.
+public final class JacksonOutput {
+
+  private JacksonOutput() {}
+
+  @FunctionalInterface
+  public interface ValueWriter<T> {
+    void write(JsonGenerator generator, @Nullable T value) throws IOException;
+  }
+
+  /// writes `value` as a single document in the format of `factory`
+  public static <T> byte[] write(JsonFactory factory, @Nullable T value, ValueWriter<T> writer) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (JsonGenerator generator = factory.createGenerator(out)) {
+      writer.write(generator, value);
+    } catch (IOException e) {
+      throw new EncodeException("Failed to encode:" + e.getMessage(), e);
+    }
+    return out.toByteArray();
+  }
+
+  /// `null` is written as `null`, elements with `writer`
+  public static <T> void writeIterable(
+      JsonGenerator generator, @Nullable Iterable<T> values, ValueWriter<T> writer)
+      throws IOException {
+    if (null == values) {
+      generator.writeNull();
+      return;
+    }
+    generator.writeStartArray();
+    for (T value : values) {
+      writer.write(generator, value);
+    }
+    generator.writeEndArray();
+  }
+
+  public static void writeString(JsonGenerator generator, @Nullable String s) throws IOException {
+    generator.writeString(s);
+  }
+
+  public static void writeChar(JsonGenerator generator, char c) throws IOException {
+    generator.writeString(String.valueOf(c));
+  }
+
+  public static void writeChar(JsonGenerator generator, @Nullable Character c) throws IOException {
+    if (null == c) {
+      generator.writeNull();
+      return;
+    }
+    writeChar(generator, c.charValue());
+  }
+
+  public static void writeBoolean(JsonGenerator generator, boolean b) throws IOException {
+    generator.writeBoolean(b);
+  }
+
+  public static void writeBoolean(JsonGenerator generator, @Nullable Boolean b) throws IOException {
+    if (null == b) {
+      generator.writeNull();
+      return;
+    }
+    generator.writeBoolean(b);
+  }
+
+  public static void writeInt(JsonGenerator generator, int i) throws IOException {
+    generator.writeNumber(i);
+  }
+
+  public static void writeInt(JsonGenerator generator, @Nullable Integer i) throws IOException {
+    if (null == i) {
+      generator.writeNull();
+      return;
+    }
+    generator.writeNumber(i.intValue());
+  }
+
+  public static void writeShort(JsonGenerator generator, short s) throws IOException {
+    generator.writeNumber(s);
+  }
+
+  public static void writeShort(JsonGenerator generator, @Nullable Short s) throws IOException {
+    if (null == s) {
+      generator.writeNull();
+      return;
+    }
+    generator.writeNumber(s.shortValue());
+  }
+
+  public static void writeByte(JsonGenerator generator, byte b) throws IOException {
+    generator.writeNumber(b);
+  }
+
+  public static void writeByte(JsonGenerator generator, @Nullable Byte b) throws IOException {
+    if (null == b) {
+      generator.writeNull();
+      return;
+    }
+    generator.writeNumber(b.intValue());
+  }
+
+  public static void writeLong(JsonGenerator generator, long l) throws IOException {
+    generator.writeNumber(l);
+  }
+
+  public static void writeLong(JsonGenerator generator, @Nullable Long l) throws IOException {
+    if (null == l) {
+      generator.writeNull();
+      return;
+    }
+    generator.writeNumber(l.longValue());
+  }
+
+  public static void writeFloat(JsonGenerator generator, float f) throws IOException {
+    generator.writeNumber(f);
+  }
+
+  public static void writeFloat(JsonGenerator generator, @Nullable Float f) throws IOException {
+    if (null == f) {
+      generator.writeNull();
+      return;
+    }
+    generator.writeNumber(f.floatValue());
+  }
+
+  public static void writeDouble(JsonGenerator generator, double d) throws IOException {
+    generator.writeNumber(d);
+  }
+
+  public static void writeDouble(JsonGenerator generator, @Nullable Double d) throws IOException {
+    if (null == d) {
+      generator.writeNull();
+      return;
+    }
+    generator.writeNumber(d.doubleValue());
+  }
+
+  public static void writeIntArray(JsonGenerator generator, @Nullable int[] values)
+      throws IOException {
+    if (null == values) {
+      generator.writeNull();
+      return;
+    }
+    generator.writeArray(values, 0, values.length);
+  }
+
+  public static void writeLongArray(JsonGenerator generator, @Nullable long[] values)
+      throws IOException {
+    if (null == values) {
+      generator.writeNull();
+      return;
+    }
+    generator.writeArray(values, 0, values.length);
+  }
+
+  public static void writeDoubleArray(JsonGenerator generator, @Nullable double[] values)
+      throws IOException {
+    if (null == values) {
+      generator.writeNull();
+      return;
+    }
+    generator.writeArray(values, 0, values.length);
+  }
+
+  public static void writeEnum(JsonGenerator generator, @Nullable Enum<?> value)
+      throws IOException {
+    generator.writeString(null == value ? null : value.name());
+  }
+
+  /// native binary in formats that have it, otherwise url safe base64 the same as [JsonOutput]
+  public static void writeBinary(JsonGenerator generator, @Nullable byte[] bytes)
+      throws IOException {
+    if (null == bytes) {
+      generator.writeNull();
+      return;
+    }
+    generator.writeBinary(Base64Variants.MODIFIED_FOR_URL, bytes, 0, bytes.length);
+  }
+
+  public static void writeLocalDate(JsonGenerator generator, @Nullable LocalDate date)
+      throws IOException {
+    generator.writeString(JsonTime.formatLocalDate(date));
+  }
+
+  public static void writeLocalDateTime(JsonGenerator generator, @Nullable LocalDateTime dateTime)
+      throws IOException {
+    generator.writeString(JsonTime.formatLocalDateTime(dateTime));
+  }
+
+  public static void writeOffsetDateTime(JsonGenerator generator, @Nullable OffsetDateTime dateTime)
+      throws IOException {
+    generator.writeString(JsonTime.formatOffsetDateTime(dateTime));
+  }
+}
@@ -0,0 +1,132 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.runtime;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+
+/// Decodes a top level json array as its chunks arrive, e.g. from an http request body.
+///
+/// Chunks go through Jackson's non-blocking parser to find where each element ends, only the bytes
+/// of the element being parsed are kept. A complete element is decoded by the generated
+/// `fromParser` and passed to the handler, `null` elements are skipped.
+///
+/// `request.handler(parser).endHandler(v -> parser.end())`, a malformed body throws a
+/// [DecodeException] from `handle` or `end`.
+public final class JsonArrayParser<T> implements Handler<Buffer> {
+
+  private static final JsonFactory FACTORY =
+      JsonFactory.builder().enable(StreamReadFeature.USE_FAST_DOUBLE_PARSER).build();
+
+  private final JsonInput.ValueReader<T> reader;
+  private final Handler<T> handler;
+  private final JsonParser parser;
+  private final ByteArrayFeeder feeder;
+
+  /// the input from `pendingStart` on, which holds the element being parsed and possibly some
+  /// bytes before it
+  private Buffer pending = Buffer.buffer();
+
+  private long pendingStart;
+  private long elementStart = -1;
+  private int depth;
+  private boolean started;
+  private boolean ended;
+
+  public JsonArrayParser(JsonInput.ValueReader<T> reader, Handler<T> handler) {
+    this.reader = reader;
+    this.handler = handler;
+    try {
+      this.parser = FACTORY.createNonBlockingByteArrayParser();
+    } catch (IOException e) {
+      throw new DecodeException("Failed to decode:" + e.getMessage(), e);
+    }
+    this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+  }
+
+  @Override
+  public void handle(Buffer chunk) {
+    byte[] bytes = chunk.getBytes();
+    pending.appendBytes(bytes);
+    try {
+      feeder.feedInput(bytes, 0, bytes.length);
+      parse();
+    } catch (IOException e) {
+      throw new DecodeException("Failed to decode:" + e.getMessage(), e);
+    }
+
+    // the bytes before the open element are dropped once they are at least as many as the bytes
+    // kept, so a large element arriving in many small chunks is not copied again per chunk
+    long keep = elementStart < 0 ? pendingStart + pending.length() : elementStart;
+    int dead = (int) (keep - pendingStart);
+    if (dead > 0 && dead >= pending.length() - dead) {
+      pending = pending.getBuffer(dead, pending.length());
+      pendingStart = keep;
+    }
+  }
+
+  /// call once the last chunk was handled
+  public void end() {
+    feeder.endOfInput();
+    try {
+      parse();
+    } catch (IOException e) {
+      throw new DecodeException("Failed to decode:" + e.getMessage(), e);
+    }
+    if (!ended) {
+      throw new DecodeException("Unexpected end of input");
+    }
+  }
+
+  private void parse() throws IOException {
+    for (JsonToken token = parser.nextToken();
+        null != token && JsonToken.NOT_AVAILABLE != token;
+        token = parser.nextToken()) {
+      if (ended) {
+        throw new DecodeException("Unexpected trailing token");
+      }
+
+      if (!started) {
+        JsonInput.expect(parser, JsonToken.START_ARRAY);
+        started = true;
+        depth = 1;
+        continue;
+      }
+
+      if (token.isStructStart()) {
+        if (1 == depth) {
+          // the location is just after the token, a bracket is one byte
+          elementStart = parser.currentLocation().getByteOffset() - 1;
+        }
+        depth++;
+      } else if (token.isStructEnd()) {
+        depth--;
+        if (0 == depth) {
+          ended = true;
+        } else if (1 == depth) {
+          long end = parser.currentLocation().getByteOffset();
+          Buffer element =
+              pending.slice((int) (elementStart - pendingStart), (int) (end - pendingStart));
+          elementStart = -1;
+          emit(JsonInput.read(element, reader));
+        }
+      } else if (1 == depth) {
+        // a complete scalar, the generated readers return null for null and reject the rest
+        emit(reader.read(parser));
+      }
+    }
+  }
+
+  private void emit(@Nullable T value) {
+    if (null != value) {
+      handler.handle(value);
+    }
+  }
+}
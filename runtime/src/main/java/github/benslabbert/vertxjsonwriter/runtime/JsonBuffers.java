@@ -0,0 +1,80 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.runtime;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.buffer.UnpooledHeapByteBuf;
+import io.vertx.core.buffer.Buffer;
+import jakarta.annotation.Nullable;
+import java.util.ArrayDeque;
+
+/// A per thread pool of output buffers, for encoding on an event loop without allocating a new
+/// [Buffer] and growing it for every message.
+///
+/// ```java
+/// Buffer buffer = JsonBuffers.acquire();
+/// RequestJson.writeTo(buffer, request);
+/// response.end(buffer).onComplete(ar -> JsonBuffers.release(buffer));
+/// ```
+///
+/// A buffer may only be released once nothing reads it any more, e.g. once the write that sent it
+/// has completed, whether it succeeded or failed. Buffers that grew past [#MAX_RETAINED_CAPACITY]
+/// are dropped instead of pooled.
+public final class JsonBuffers {
+
+  public static final int MAX_RETAINED_CAPACITY = 1024 * 1024;
+
+  private static final int INITIAL_CAPACITY = 1024;
+  private static final int MAX_POOLED = 16;
+
+  private static final ThreadLocal<ArrayDeque<Storage>> POOL =
+      ThreadLocal.withInitial(ArrayDeque::new);
+
+  private JsonBuffers() {}
+
+  /// an empty buffer, pooled by this thread or new
+  public static Buffer acquire() {
+    Storage storage = POOL.get().pollLast();
+    if (null == storage) {
+      storage = new Storage();
+      storage.owner = InternalBuffers.wrap(storage);
+    }
+    storage.pooled = false;
+    storage.clear();
+    return storage.owner;
+  }
+
+  /// returns a buffer from [#acquire] to the pool of this thread, any other buffer, e.g. a slice
+  /// of one, and a buffer that was already released are ignored
+  public static void release(Buffer buffer) {
+    Storage storage = storage(buffer);
+    if (null == storage || storage.pooled) {
+      return;
+    }
+    ArrayDeque<Storage> pool = POOL.get();
+    if (pool.size() < MAX_POOLED && storage.capacity() <= MAX_RETAINED_CAPACITY) {
+      storage.pooled = true;
+      pool.addLast(storage);
+    }
+  }
+
+  /// the storage of a buffer from [#acquire], `getByteBuf` only returns a view of it
+  private static @Nullable Storage storage(Buffer buffer) {
+    ByteBuf byteBuf = InternalBuffers.byteBuf(buffer);
+    while (null != byteBuf && !(byteBuf instanceof Storage) && null != byteBuf.unwrap()) {
+      byteBuf = byteBuf.unwrap();
+    }
+    return byteBuf instanceof Storage storage && storage.owner == buffer ? storage : null;
+  }
+
+  /// the heap memory behind exactly one [Buffer], the vert.x buffer writes through to it
+  private static final class Storage extends UnpooledHeapByteBuf {
+
+    private Buffer owner;
+    private boolean pooled;
+
+    private Storage() {
+      super(UnpooledByteBufAllocator.DEFAULT, INITIAL_CAPACITY, Integer.MAX_VALUE);
+    }
+  }
+}
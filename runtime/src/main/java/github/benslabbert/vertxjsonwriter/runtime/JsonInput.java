@@ -0,0 +1,504 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.runtime;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.exc.InputCoercionException;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.jackson.JacksonCodec;
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/// Reads JSON values from a Jackson [JsonParser] token stream.
+///
+/// Used by the generated `{ORIGINAL_CLASS_NAME}Json.fromParser` methods. Every `read*` method
+/// expects the parser to be positioned on the value to read and leaves it on the last token of
+/// that value.
+public final class JsonInput {
+
+  /// returned by [#nextField] for a name that is not a component
+  public static final int UNKNOWN_FIELD = -1;
+
+  /// returned by [#nextField] once there are no more fields
+  public static final int END_OBJECT = -2;
+
+  private JsonInput() {}
+
+  @FunctionalInterface
+  public interface ValueReader<T> {
+    @Nullable
+    T read(JsonParser parser) throws IOException;
+  }
+
+  @FunctionalInterface
+  public interface ValidatingReader<T> {
+    @Nullable
+    T read(JsonParser parser, String path, ValidationErrors errors) throws IOException;
+  }
+
+  /// parse a single json document from `buffer`
+  public static <T> T read(Buffer buffer, ValueReader<T> reader) {
+    try (JsonParser parser = createParser(buffer)) {
+      return read(parser, reader);
+    } catch (IOException e) {
+      throw new DecodeException("Failed to decode:" + e.getMessage(), e);
+    }
+  }
+
+  /// parse a top level json array from `buffer`, `null` elements are skipped
+  public static <T> List<T> readArray(Buffer buffer, ValueReader<T> reader) {
+    return read(
+        buffer,
+        parser -> {
+          expect(parser, JsonToken.START_ARRAY);
+          return readList(parser, reader);
+        });
+  }
+
+  /// parse a single document in the format of `factory`, e.g. CBOR, Smile or MessagePack
+  public static <T> T read(JsonFactory factory, byte[] bytes, ValueReader<T> reader) {
+    try (JsonParser parser = factory.createParser(bytes)) {
+      return read(parser, reader);
+    } catch (IOException e) {
+      throw new DecodeException("Failed to decode:" + e.getMessage(), e);
+    }
+  }
+
+  /// the vert.x parser over the buffer's bytes, with doubles and floats parsed by Jackson's copy of
+  /// FastDoubleParser instead of `Double.parseDouble`
+  private static JsonParser createParser(Buffer buffer) {
+    return JacksonCodec.createParser(buffer).enable(JsonParser.Feature.USE_FAST_DOUBLE_PARSER);
+  }
+
+  private static <T> T read(JsonParser parser, ValueReader<T> reader) throws IOException {
+    parser.nextToken();
+    T value = reader.read(parser);
+    if (null != parser.nextToken()) {
+      throw new DecodeException("Unexpected trailing token");
+    }
+    return value;
+  }
+
+  /// parse and validate a single json document from `buffer` in one pass. With `failFast` parsing
+  /// stops at the first error, otherwise all errors are collected. The value is only returned if
+  /// there are no errors, malformed json still throws a [DecodeException]
+  public static <T> DecodeResult<T> read(
+      Buffer buffer, boolean failFast, ValidatingReader<T> reader) {
+    ValidationErrors errors = new ValidationErrors(failFast);
+    try (JsonParser parser = createParser(buffer)) {
+      parser.nextToken();
+      T value = reader.read(parser, "#", errors);
+      if (null != parser.nextToken()) {
+        throw new DecodeException("Unexpected trailing token");
+      }
+      return new DecodeResult<>(errors.isValid() ? value : null, errors);
+    } catch (ValidationErrors.FailFast e) {
+      return new DecodeResult<>(null, errors);
+    } catch (IOException e) {
+      throw new DecodeException("Failed to decode:" + e.getMessage(), e);
+    }
+  }
+
+  public static void expect(JsonParser parser, JsonToken expected) {
+    JsonToken token = parser.currentToken();
+    if (expected != token) {
+      throw unexpected(parser, expected.name());
+    }
+  }
+
+  /// advances to the next field and returns the index of its name in `names`.
+  ///
+  /// fields are usually in declaration order, so the name at `expected` is tried first. Jackson
+  /// compares it against the raw input without looking the name up in its symbol table, any other
+  /// name goes through `index`, the generated switch over the names
+  public static int nextField(
+      JsonParser parser, SerializableString[] names, int expected, ToIntFunction<String> index)
+      throws IOException {
+    if (expected < names.length) {
+      if (parser.nextFieldName(names[expected])) {
+        return expected;
+      }
+    } else {
+      parser.nextToken();
+    }
+
+    if (JsonToken.FIELD_NAME != parser.currentToken()) {
+      return END_OBJECT;
+    }
+    return index.applyAsInt(parser.currentName());
+  }
+
+  public static @Nullable String readString(JsonParser parser) throws IOException {
+    JsonToken token = parser.currentToken();
+    if (JsonToken.VALUE_NULL == token) {
+      return null;
+    }
+    if (JsonToken.VALUE_STRING != token) {
+      throw unexpected(parser, "string");
+    }
+    return parser.getText();
+  }
+
+  public static @Nullable Character readCharacter(JsonParser parser) throws IOException {
+    String s = readString(parser);
+    return null == s ? null : toChar(parser, s);
+  }
+
+  public static char readCharValue(JsonParser parser) throws IOException {
+    return toChar(parser, requireNonNull(parser, readString(parser)));
+  }
+
+  private static char toChar(JsonParser parser, String s) {
+    if (s.length() != 1) {
+      throw unexpected(parser, "single character string");
+    }
+    return s.charAt(0);
+  }
+
+  public static @Nullable Boolean readBoolean(JsonParser parser) {
+    JsonToken token = parser.currentToken();
+    if (JsonToken.VALUE_NULL == token) {
+      return null;
+    }
+    return readBooleanValue(parser);
+  }
+
+  public static boolean readBooleanValue(JsonParser parser) {
+    JsonToken token = parser.currentToken();
+    if (JsonToken.VALUE_TRUE == token) {
+      return true;
+    }
+    if (JsonToken.VALUE_FALSE == token) {
+      return false;
+    }
+    throw unexpected(parser, "boolean");
+  }
+
+  public static @Nullable Integer readInteger(JsonParser parser) throws IOException {
+    return isNull(parser) ? null : readIntValue(parser);
+  }
+
+  public static int readIntValue(JsonParser parser) throws IOException {
+    requireNumber(parser);
+    return parser.getIntValue();
+  }
+
+  public static @Nullable Short readShort(JsonParser parser) throws IOException {
+    return isNull(parser) ? null : readShortValue(parser);
+  }
+
+  public static short readShortValue(JsonParser parser) throws IOException {
+    requireNumber(parser);
+    return parser.getShortValue();
+  }
+
+  public static @Nullable Byte readByte(JsonParser parser) throws IOException {
+    return isNull(parser) ? null : readByteValue(parser);
+  }
+
+  public static byte readByteValue(JsonParser parser) throws IOException {
+    requireNumber(parser);
+    return parser.getByteValue();
+  }
+
+  public static @Nullable Long readLong(JsonParser parser) throws IOException {
+    return isNull(parser) ? null : readLongValue(parser);
+  }
+
+  public static long readLongValue(JsonParser parser) throws IOException {
+    requireNumber(parser);
+    return parser.getLongValue();
+  }
+
+  public static @Nullable Float readFloat(JsonParser parser) throws IOException {
+    return isNull(parser) ? null : readFloatValue(parser);
+  }
+
+  public static float readFloatValue(JsonParser parser) throws IOException {
+    requireNumber(parser);
+    return parser.getFloatValue();
+  }
+
+  public static @Nullable Double readDouble(JsonParser parser) throws IOException {
+    return isNull(parser) ? null : readDoubleValue(parser);
+  }
+
+  public static double readDoubleValue(JsonParser parser) throws IOException {
+    requireNumber(parser);
+    return parser.getDoubleValue();
+  }
+
+  public static @Nullable LocalDate readLocalDate(JsonParser parser) throws IOException {
+    return parse(parser, DateTimeFormatter.ISO_DATE, JsonTime::parseLocalDate);
+  }
+
+  public static @Nullable LocalDateTime readLocalDateTime(JsonParser parser) throws IOException {
+    return parse(parser, DateTimeFormatter.ISO_LOCAL_DATE_TIME, JsonTime::parseLocalDateTime);
+  }
+
+  public static @Nullable OffsetDateTime readOffsetDateTime(JsonParser parser) throws IOException {
+    return parse(parser, DateTimeFormatter.ISO_OFFSET_DATE_TIME, JsonTime::parseOffsetDateTime);
+  }
+
+  /// `formatter` is only used to describe the expected format
+  private static <T> @Nullable T parse(
+      JsonParser parser, DateTimeFormatter formatter, Function<String, T> parse)
+      throws IOException {
+    try {
+      return parse.apply(readString(parser));
+    } catch (DateTimeParseException e) {
+      throw unexpected(parser, "date time in the format " + formatter);
+    }
+  }
+
+  public static @Nullable int[] readIntArray(JsonParser parser) throws IOException {
+    if (isNull(parser)) {
+      return null;
+    }
+    expect(parser, JsonToken.START_ARRAY);
+    int[] values = new int[8];
+    int size = 0;
+    while (JsonToken.END_ARRAY != parser.nextToken()) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = readIntValue(parser);
+    }
+    return Arrays.copyOf(values, size);
+  }
+
+  public static @Nullable long[] readLongArray(JsonParser parser) throws IOException {
+    if (isNull(parser)) {
+      return null;
+    }
+    expect(parser, JsonToken.START_ARRAY);
+    long[] values = new long[8];
+    int size = 0;
+    while (JsonToken.END_ARRAY != parser.nextToken()) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = readLongValue(parser);
+    }
+    return Arrays.copyOf(values, size);
+  }
+
+  public static @Nullable double[] readDoubleArray(JsonParser parser) throws IOException {
+    if (isNull(parser)) {
+      return null;
+    }
+    expect(parser, JsonToken.START_ARRAY);
+    double[] values = new double[8];
+    int size = 0;
+    while (JsonToken.END_ARRAY != parser.nextToken()) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = readDoubleValue(parser);
+    }
+    return Arrays.copyOf(values, size);
+  }
+
+  /// the items of an array the parser is positioned on, invalid items are reported to `errors` and
+  /// left as `0`, so the length is always the number of items
+  public static int[] readIntArray(JsonParser parser, String path, ValidationErrors errors)
+      throws IOException {
+    int[] values = new int[8];
+    int size = 0;
+    for (; JsonToken.END_ARRAY != parser.nextToken(); size++) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      if (!JsonValidation.isIntegerToken(parser)) {
+        errors.add(path + "/" + size, JsonValidation.invalidType(parser, "integer"));
+        parser.skipChildren();
+        continue;
+      }
+      try {
+        values[size] = parser.getIntValue();
+      } catch (InputCoercionException e) {
+        errors.add(path + "/" + size, JsonValidation.notRepresentable("int"));
+      }
+    }
+    return Arrays.copyOf(values, size);
+  }
+
+  public static long[] readLongArray(JsonParser parser, String path, ValidationErrors errors)
+      throws IOException {
+    long[] values = new long[8];
+    int size = 0;
+    for (; JsonToken.END_ARRAY != parser.nextToken(); size++) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      if (!JsonValidation.isIntegerToken(parser)) {
+        errors.add(path + "/" + size, JsonValidation.invalidType(parser, "integer"));
+        parser.skipChildren();
+        continue;
+      }
+      try {
+        values[size] = parser.getLongValue();
+      } catch (InputCoercionException e) {
+        errors.add(path + "/" + size, JsonValidation.notRepresentable("long"));
+      }
+    }
+    return Arrays.copyOf(values, size);
+  }
+
+  public static double[] readDoubleArray(JsonParser parser, String path, ValidationErrors errors)
+      throws IOException {
+    double[] values = new double[8];
+    int size = 0;
+    for (; JsonToken.END_ARRAY != parser.nextToken(); size++) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      if (!parser.currentToken().isNumeric()) {
+        errors.add(path + "/" + size, JsonValidation.invalidType(parser, "number"));
+        parser.skipChildren();
+        continue;
+      }
+      values[size] = parser.getDoubleValue();
+    }
+    return Arrays.copyOf(values, size);
+  }
+
+  /// url safe base64, the same as `JsonObject.getBinary`, or the native binary value of formats
+  /// like CBOR
+  public static @Nullable byte[] readBinary(JsonParser parser) throws IOException {
+    JsonToken token = parser.currentToken();
+    if (JsonToken.VALUE_NULL == token) {
+      return null;
+    }
+    if (JsonToken.VALUE_EMBEDDED_OBJECT == token) {
+      return parser.getBinaryValue();
+    }
+    String s = readString(parser);
+    try {
+      return Base64.getUrlDecoder().decode(s);
+    } catch (IllegalArgumentException e) {
+      throw unexpected(parser, "base64 string");
+    }
+  }
+
+  /// `constants` is the generated lookup of the enum, it returns `null` for an unknown name
+  public static <E extends Enum<E>> @Nullable E readEnum(
+      JsonParser parser, Function<String, E> constants) throws IOException {
+    String name = readString(parser);
+    if (null == name) {
+      return null;
+    }
+    E value = constants.apply(name);
+    if (null == value) {
+      throw new DecodeException(
+          "field '%s': unknown constant '%s'"
+              .formatted(parser.getParsingContext().getCurrentName(), name));
+    }
+    return value;
+  }
+
+  /// the `fromJson` version of [#readEnum(JsonParser, Function)]
+  public static <E extends Enum<E>> @Nullable E toEnum(
+      @Nullable String name, Function<String, E> constants) {
+    if (null == name) {
+      return null;
+    }
+    E value = constants.apply(name);
+    if (null == value) {
+      throw new DecodeException("unknown constant '%s'".formatted(name));
+    }
+    return value;
+  }
+
+  /// thrown by the generated `fromParser` once the object ended without a component that is
+  /// primitive or not `@Nullable`
+  public static DecodeException missingField(String name) {
+    return new DecodeException("missing required field '%s'".formatted(name));
+  }
+
+  /// the `fromJson` version of [#missingField], an explicit `null` counts as present
+  public static void requireFields(JsonObject json, String[] names) {
+    for (String name : names) {
+      if (!json.containsKey(name)) {
+        throw missingField(name);
+      }
+    }
+  }
+
+  /// null elements are skipped, the same as `fromJson` does
+  public static <T> @Nullable List<T> readList(JsonParser parser, ValueReader<T> reader)
+      throws IOException {
+    if (isNull(parser)) {
+      return null;
+    }
+    expect(parser, JsonToken.START_ARRAY);
+    List<T> list = new ArrayList<>();
+    while (JsonToken.END_ARRAY != parser.nextToken()) {
+      T value = reader.read(parser);
+      if (null != value) {
+        list.add(value);
+      }
+    }
+    return Collections.unmodifiableList(list);
+  }
+
+  /// null elements are skipped, the same as `fromJson` does
+  public static <T> @Nullable Set<T> readSet(JsonParser parser, ValueReader<T> reader)
+      throws IOException {
+    if (isNull(parser)) {
+      return null;
+    }
+    expect(parser, JsonToken.START_ARRAY);
+    Set<T> set = new HashSet<>();
+    while (JsonToken.END_ARRAY != parser.nextToken()) {
+      T value = reader.read(parser);
+      if (null != value) {
+        set.add(value);
+      }
+    }
+    return Collections.unmodifiableSet(set);
+  }
+
+  private static boolean isNull(JsonParser parser) {
+    return JsonToken.VALUE_NULL == parser.currentToken();
+  }
+
+  private static void requireNumber(JsonParser parser) {
+    JsonToken token = parser.currentToken();
+    if (null == token || !token.isNumeric()) {
+      throw unexpected(parser, "number");
+    }
+  }
+
+  private static String requireNonNull(JsonParser parser, @Nullable String s) {
+    if (null == s) {
+      throw unexpected(parser, "string");
+    }
+    return s;
+  }
+
+  private static DecodeException unexpected(JsonParser parser, String expected) {
+    return new DecodeException(
+        "field '%s': expected %s but found %s"
+            .formatted(
+                parser.getParsingContext().getCurrentName(), expected, parser.currentToken()));
+  }
+}
@@ -0,0 +1,243 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.runtime;
+
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.parsetools.RecordParser;
+import io.vertx.core.streams.ReadStream;
+import jakarta.annotation.Nullable;
+import java.util.Iterator;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/// Streams records as newline delimited json, one `writeTo` document per line.
+///
+/// The adapters keep the backpressure of the stream they wrap: pausing the returned stream pauses
+/// the source, so only a line (or one chunk of lines) is held at a time. `\r\n` line endings and
+/// blank lines are accepted when decoding.
+public final class JsonLines {
+
+  /// lines longer than this fail the stream instead of being buffered
+  public static final int DEFAULT_MAX_LINE_LENGTH = 1024 * 1024;
+
+  /// lines written from an `Iterable` are emitted in chunks of about this size
+  private static final int CHUNK = 16 * 1024;
+
+  private JsonLines() {}
+
+  /// decodes each line of `source`, e.g. `JsonLines.decode(request, RequestJson::fromBuffer)`
+  public static <T> ReadStream<T> decode(ReadStream<Buffer> source, Function<Buffer, T> decoder) {
+    return decode(source, decoder, DEFAULT_MAX_LINE_LENGTH);
+  }
+
+  /// a line that fails to decode is reported to the exception handler and skipped
+  public static <T> ReadStream<T> decode(
+      ReadStream<Buffer> source, Function<Buffer, T> decoder, int maxLineLength) {
+    RecordParser lines = RecordParser.newDelimited("\n", source).maxRecordSize(maxLineLength);
+    return new MappedStream<>(
+        lines,
+        line -> {
+          int end = line.length();
+          if (end > 0 && '\r' == line.getByte(end - 1)) {
+            end--;
+          }
+          return isBlank(line, end) ? null : decoder.apply(line.slice(0, end));
+        });
+  }
+
+  /// encodes each record of `source` on its own line
+  public static <T> ReadStream<Buffer> encode(ReadStream<T> source, BiConsumer<Buffer, T> writer) {
+    return new MappedStream<>(
+        source,
+        value -> {
+          Buffer line = Buffer.buffer();
+          writer.accept(line, value);
+          return line.appendByte((byte) '\n');
+        });
+  }
+
+  /// encodes `values` as they are requested, the iterator is only advanced on `context`
+  public static <T> ReadStream<Buffer> encode(
+      Context context, Iterable<T> values, BiConsumer<Buffer, T> writer) {
+    return new IterableStream<>(context, values.iterator(), writer);
+  }
+
+  private static boolean isBlank(Buffer line, int end) {
+    for (int i = 0; i < end; i++) {
+      byte b = line.getByte(i);
+      if (' ' != b && '\t' != b) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /// a one to one mapping, `null` results are dropped and fetched again so no demand is lost
+  private static final class MappedStream<S, T> implements ReadStream<T> {
+
+    private final ReadStream<S> source;
+    private final Function<S, T> mapper;
+    private @Nullable Handler<Throwable> exceptionHandler;
+
+    private MappedStream(ReadStream<S> source, Function<S, T> mapper) {
+      this.source = source;
+      this.mapper = mapper;
+    }
+
+    @Override
+    public ReadStream<T> exceptionHandler(@Nullable Handler<Throwable> handler) {
+      exceptionHandler = handler;
+      source.exceptionHandler(handler);
+      return this;
+    }
+
+    @Override
+    public ReadStream<T> handler(@Nullable Handler<T> handler) {
+      if (null == handler) {
+        source.handler(null);
+        return this;
+      }
+      source.handler(
+          s -> {
+            T value;
+            try {
+              value = mapper.apply(s);
+            } catch (RuntimeException e) {
+              value = null;
+              if (null != exceptionHandler) {
+                exceptionHandler.handle(e);
+              }
+            }
+            if (null == value) {
+              source.fetch(1);
+            } else {
+              handler.handle(value);
+            }
+          });
+      return this;
+    }
+
+    @Override
+    public ReadStream<T> pause() {
+      source.pause();
+      return this;
+    }
+
+    @Override
+    public ReadStream<T> resume() {
+      source.resume();
+      return this;
+    }
+
+    @Override
+    public ReadStream<T> fetch(long amount) {
+      source.fetch(amount);
+      return this;
+    }
+
+    @Override
+    public ReadStream<T> endHandler(@Nullable Handler<Void> endHandler) {
+      source.endHandler(endHandler);
+      return this;
+    }
+  }
+
+  /// emits a chunk of lines per unit of demand, flowing until paused like other vert.x streams
+  private static final class IterableStream<T> implements ReadStream<Buffer> {
+
+    private final Context context;
+    private final Iterator<T> iterator;
+    private final BiConsumer<Buffer, T> writer;
+    private long demand = Long.MAX_VALUE;
+    private boolean scheduled;
+    private boolean ended;
+    private @Nullable Handler<Buffer> handler;
+    private @Nullable Handler<Void> endHandler;
+    private @Nullable Handler<Throwable> exceptionHandler;
+
+    private IterableStream(Context context, Iterator<T> iterator, BiConsumer<Buffer, T> writer) {
+      this.context = context;
+      this.iterator = iterator;
+      this.writer = writer;
+    }
+
+    @Override
+    public ReadStream<Buffer> exceptionHandler(@Nullable Handler<Throwable> handler) {
+      exceptionHandler = handler;
+      return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> handler(@Nullable Handler<Buffer> handler) {
+      this.handler = handler;
+      schedule();
+      return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> pause() {
+      demand = 0;
+      return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> resume() {
+      return fetch(Long.MAX_VALUE);
+    }
+
+    @Override
+    public ReadStream<Buffer> fetch(long amount) {
+      demand += amount;
+      if (demand < 0) {
+        demand = Long.MAX_VALUE;
+      }
+      schedule();
+      return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> endHandler(@Nullable Handler<Void> endHandler) {
+      this.endHandler = endHandler;
+      return this;
+    }
+
+    /// handlers may pause or fetch while a chunk is handled, emitting later avoids reentrancy
+    private void schedule() {
+      if (!scheduled && !ended) {
+        scheduled = true;
+        context.runOnContext(v -> emit());
+      }
+    }
+
+    private void emit() {
+      scheduled = false;
+      try {
+        while (null != handler && demand > 0 && iterator.hasNext()) {
+          Buffer chunk = Buffer.buffer(CHUNK);
+          while (chunk.length() < CHUNK && iterator.hasNext()) {
+            writer.accept(chunk, iterator.next());
+            chunk.appendByte((byte) '\n');
+          }
+          if (Long.MAX_VALUE != demand) {
+            demand--;
+          }
+          handler.handle(chunk);
+        }
+      } catch (RuntimeException e) {
+        ended = true;
+        if (null != exceptionHandler) {
+          exceptionHandler.handle(e);
+        }
+        return;
+      }
+
+      if (null != handler && !ended && !iterator.hasNext()) {
+        ended = true;
+        if (null != endHandler) {
+          endHandler.handle(null);
+        }
+      }
+    }
+  }
+}
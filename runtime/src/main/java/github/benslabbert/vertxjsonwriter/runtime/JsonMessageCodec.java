@@ -0,0 +1,81 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.runtime;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.MessageCodec;
+import java.util.ServiceLoader;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/// Base of the `{ORIGINAL_CLASS_NAME}Json.Codec` event bus codecs generated for
+/// `@JsonWriter(codec = true)`.
+///
+/// Records are immutable, so local delivery passes the same instance. On the wire the record is
+/// written by `writeTo` behind an `int` length prefix.
+public abstract class JsonMessageCodec<T> implements MessageCodec<T, T> {
+
+  private final Class<T> type;
+  private final BiConsumer<Buffer, T> writer;
+  private final Function<Buffer, T> reader;
+
+  protected JsonMessageCodec(
+      Class<T> type, BiConsumer<Buffer, T> writer, Function<Buffer, T> reader) {
+    this.type = type;
+    this.writer = writer;
+    this.reader = reader;
+  }
+
+  /// registers every generated codec on the classpath as the default codec of its record.
+  ///
+  /// the processor lists the codecs in `META-INF/services`. A record that already has a default
+  /// codec, or whose codec name is taken, keeps what is registered, so calling this twice or after
+  /// registering a codec by hand is safe
+  public static void registerAll(EventBus eventBus) {
+    for (JsonMessageCodec<?> codec : ServiceLoader.load(JsonMessageCodec.class)) {
+      register(eventBus, codec);
+    }
+  }
+
+  private static <T> void register(EventBus eventBus, JsonMessageCodec<T> codec) {
+    try {
+      eventBus.registerDefaultCodec(codec.type(), codec);
+    } catch (IllegalStateException e) {
+      // the event bus has no lookup, it only rejects a type or name that is already registered
+    }
+  }
+
+  public Class<T> type() {
+    return type;
+  }
+
+  @Override
+  public void encodeToWire(Buffer buffer, T o) {
+    int start = buffer.length();
+    buffer.appendInt(0);
+    writer.accept(buffer, o);
+    buffer.setInt(start, buffer.length() - start - Integer.BYTES);
+  }
+
+  @Override
+  public T decodeFromWire(int pos, Buffer buffer) {
+    int length = buffer.getInt(pos);
+    int start = pos + Integer.BYTES;
+    return reader.apply(buffer.slice(start, start + length));
+  }
+
+  @Override
+  public T transform(T o) {
+    return o;
+  }
+
+  @Override
+  public String name() {
+    return type.getName();
+  }
+
+  @Override
+  public byte systemCodecID() {
+    return -1;
+  }
+}
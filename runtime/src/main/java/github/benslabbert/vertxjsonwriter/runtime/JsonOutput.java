@@ -0,0 +1,535 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.runtime;
+
+import io.vertx.core.buffer.Buffer;
+import jakarta.annotation.Nullable;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.function.BiConsumer;
+
+/// Writes JSON values as UTF-8 bytes directly into a [Buffer].
+///
+/// Used by the generated `{ORIGINAL_CLASS_NAME}Json.writeTo` methods, the output matches what
+/// `toJson(o).toBuffer()` would produce without building the intermediate `JsonObject`. Floating
+/// point numbers are written in their shortest form, before JDK 19 `Double.toString` sometimes
+/// adds a digit that is not needed to read the value back.
+public final class JsonOutput {
+
+  private static final byte QUOTE = '"';
+  private static final byte BACKSLASH = '\\';
+  private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+  private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+  private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+  private static final byte[] EMPTY_STRING = {'"', '"'};
+  private static final byte[] HEX = {
+    '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'
+  };
+
+  /// the url safe alphabet vert.x uses for `byte[]` in a `JsonObject`
+  private static final byte[] BASE64_URL =
+      "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+          .getBytes(StandardCharsets.US_ASCII);
+
+  /// encoded bytes are staged in chunks of this size, a multiple of 4
+  private static final int BASE64_CHUNK = 4 * 1024;
+
+  /// chars encoded per append by [#writeString]
+  private static final int STRING_CHUNK = 2 * 1024;
+
+  private static final byte[] ESCAPES = escapes();
+
+  /// reads eight bytes as one `long` for the scan in [#plainPrefix]
+  private static final VarHandle LONGS =
+      MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+  private static final long ONES = 0x0101010101010101L;
+  private static final long HIGH_BITS = 0x8080808080808080L;
+
+  /// "00" to "99", integers are formatted two digits per division
+  private static final byte[] DIGIT_PAIRS = digitPairs();
+
+  /// doubles formatted per append by [#writeDoubleArray]
+  private static final int DOUBLE_CHUNK = 128;
+
+  private JsonOutput() {}
+
+  public static void writeNull(Buffer buffer) {
+    buffer.appendBytes(NULL);
+  }
+
+  public static void writeString(Buffer buffer, @Nullable String s) {
+    writeString(buffer, s, true);
+  }
+
+  /// a string of `@NoEscape` components, printable ascii without quotes and backslashes, which is
+  /// not scanned for chars to escape. Any other char makes the output invalid json or longer than
+  /// [JsonSize#ofUnescaped], this is only checked with assertions enabled
+  public static void writeUnescaped(Buffer buffer, @Nullable String s) {
+    assert null == s || isUnescaped(s) : "has chars that need escaping: " + s;
+    writeString(buffer, s, false);
+  }
+
+  private static void writeString(Buffer buffer, @Nullable String s, boolean scan) {
+    if (null == s) {
+      writeNull(buffer);
+      return;
+    }
+
+    // encoded chunk by chunk in scratch space by the JDK, which has an intrinsic for the ascii
+    // runs, then scanned for the bytes to escape. a chunk without any is appended as is. a char is
+    // at most 3 bytes, a surrogate pair 4, plus the quotes
+    int length = s.length();
+    if (0 == length) {
+      buffer.appendBytes(EMPTY_STRING);
+      return;
+    }
+    int capacity = Math.min(length, STRING_CHUNK) * 3 + 2;
+    char[] chars = Scratch.chars(Math.min(length, STRING_CHUNK));
+    byte[] bytes = Scratch.bytes(capacity);
+    CharsetEncoder encoder = Scratch.utf8();
+    bytes[0] = QUOTE;
+    int from = 1;
+    int start = 0;
+    while (start < length) {
+      int count = Math.min(length - start, STRING_CHUNK);
+      if (start + count < length && Character.isHighSurrogate(s.charAt(start + count - 1))) {
+        // the low surrogate is the first char of the next chunk
+        count--;
+      }
+      s.getChars(start, start + count, chars, 0);
+      start += count;
+
+      ByteBuffer out = ByteBuffer.wrap(bytes, from, capacity - from);
+      encoder.reset().encode(CharBuffer.wrap(chars, 0, count), out, true);
+      encoder.flush(out);
+      int end = out.position();
+      int plain = scan ? from + plainPrefix(bytes, from, end - from) : end;
+      if (plain == end) {
+        if (start == length) {
+          bytes[end++] = QUOTE;
+        }
+        buffer.appendBytes(bytes, 0, end);
+      } else {
+        bytes = escape(buffer, bytes, plain, end, capacity, start == length);
+      }
+      from = 0;
+    }
+  }
+
+  /// writes `bytes[0, end)` with escapes from `plain` on, behind `capacity` in the same scratch
+  /// array, which may have to grow. an escape is at most 6 bytes. byte by byte, as strings with
+  /// one escape often have more
+  private static byte[] escape(
+      Buffer buffer, byte[] bytes, int plain, int end, int capacity, boolean last) {
+    byte[] escaped = Scratch.bytes(capacity + end * 6 + 1);
+    if (escaped != bytes) {
+      System.arraycopy(bytes, 0, escaped, 0, end);
+    }
+    System.arraycopy(escaped, 0, escaped, capacity, plain);
+    int pos = capacity + plain;
+    for (int i = plain; i < end; i++) {
+      byte b = escaped[i];
+      byte escape = b < 0 ? 0 : ESCAPES[b];
+      if (0 == escape) {
+        escaped[pos++] = b;
+      } else {
+        pos = writeEscaped(escaped, pos, (char) b, escape);
+      }
+    }
+    if (last) {
+      escaped[pos++] = QUOTE;
+    }
+    buffer.appendBytes(escaped, capacity, pos - capacity);
+    return escaped;
+  }
+
+  private static boolean isUnescaped(String s) {
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      if (c >= 0x80 || 0 != ESCAPES[c]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /// the number of leading UTF-8 bytes of `bytes[from, from + count)` that are written as is,
+  /// eight at a time. A byte is flagged by its high bit if it is a control char, a quote or a
+  /// backslash, the lowest flag of a word is exact as a borrow only carries into higher bytes
+  private static int plainPrefix(byte[] bytes, int from, int count) {
+    int i = 0;
+    for (; i + Long.BYTES <= count; i += Long.BYTES) {
+      long word = (long) LONGS.get(bytes, from + i);
+      long quote = word ^ (QUOTE * ONES);
+      long backslash = word ^ (BACKSLASH * ONES);
+      long flags =
+          ((word - 0x20 * ONES) & ~word | (quote - ONES) & ~quote | (backslash - ONES) & ~backslash)
+              & HIGH_BITS;
+      if (0 != flags) {
+        return i + (Long.numberOfTrailingZeros(flags) >>> 3);
+      }
+    }
+    for (; i < count; i++) {
+      byte b = bytes[from + i];
+      if (b >= 0 && 0 != ESCAPES[b]) {
+        return i;
+      }
+    }
+    return count;
+  }
+
+  private static int writeEscaped(byte[] bytes, int pos, char c, byte escape) {
+    bytes[pos++] = BACKSLASH;
+    bytes[pos++] = escape;
+    if ('u' == escape) {
+      bytes[pos++] = '0';
+      bytes[pos++] = '0';
+      bytes[pos++] = HEX[c >> 4];
+      bytes[pos++] = HEX[c & 0xf];
+    }
+    return pos;
+  }
+
+  /// the char after the backslash for each ascii char, `0` for the ones written as is
+  private static byte[] escapes() {
+    byte[] escapes = new byte[0x80];
+    for (int c = 0; c < 0x20; c++) {
+      escapes[c] = 'u';
+    }
+    escapes['"'] = QUOTE;
+    escapes['\\'] = BACKSLASH;
+    escapes['\n'] = 'n';
+    escapes['\r'] = 'r';
+    escapes['\t'] = 't';
+    escapes['\b'] = 'b';
+    escapes['\f'] = 'f';
+    return escapes;
+  }
+
+  private static byte[] digitPairs() {
+    byte[] pairs = new byte[200];
+    for (int i = 0; i < 100; i++) {
+      pairs[i << 1] = (byte) ('0' + i / 10);
+      pairs[i << 1 | 1] = (byte) ('0' + i % 10);
+    }
+    return pairs;
+  }
+
+  public static void writeChar(Buffer buffer, char c) {
+    writeString(buffer, String.valueOf(c));
+  }
+
+  public static void writeChar(Buffer buffer, @Nullable Character c) {
+    if (null == c) {
+      writeNull(buffer);
+      return;
+    }
+    writeChar(buffer, c.charValue());
+  }
+
+  public static void writeBoolean(Buffer buffer, boolean b) {
+    buffer.appendBytes(b ? TRUE : FALSE);
+  }
+
+  public static void writeBoolean(Buffer buffer, @Nullable Boolean b) {
+    if (null == b) {
+      writeNull(buffer);
+      return;
+    }
+    writeBoolean(buffer, b.booleanValue());
+  }
+
+  public static void writeInt(Buffer buffer, int i) {
+    writeLong(buffer, i);
+  }
+
+  public static void writeInt(Buffer buffer, @Nullable Integer i) {
+    if (null == i) {
+      writeNull(buffer);
+      return;
+    }
+    writeInt(buffer, i.intValue());
+  }
+
+  public static void writeShort(Buffer buffer, short s) {
+    writeInt(buffer, s);
+  }
+
+  public static void writeShort(Buffer buffer, @Nullable Short s) {
+    if (null == s) {
+      writeNull(buffer);
+      return;
+    }
+    writeInt(buffer, s.intValue());
+  }
+
+  public static void writeByte(Buffer buffer, byte b) {
+    writeInt(buffer, b);
+  }
+
+  public static void writeByte(Buffer buffer, @Nullable Byte b) {
+    if (null == b) {
+      writeNull(buffer);
+      return;
+    }
+    writeInt(buffer, b.intValue());
+  }
+
+  /// the digits are formatted backwards into the scratch space, counting with the negative value
+  /// so `Long.MIN_VALUE` needs no special case. two digits per division, with int arithmetic once
+  /// the rest fits
+  public static void writeLong(Buffer buffer, long l) {
+    byte[] bytes = Scratch.bytes(20);
+    int pos = 20;
+    long negative = l < 0 ? l : -l;
+    while (negative < Integer.MIN_VALUE) {
+      long q = negative / 100;
+      pos = writeDigitPair(bytes, pos, (int) (q * 100 - negative));
+      negative = q;
+    }
+    int i = (int) negative;
+    while (i <= -100) {
+      int q = i / 100;
+      pos = writeDigitPair(bytes, pos, q * 100 - i);
+      i = q;
+    }
+    if (i <= -10) {
+      pos = writeDigitPair(bytes, pos, -i);
+    } else {
+      bytes[--pos] = (byte) ('0' - i);
+    }
+    if (l < 0) {
+      bytes[--pos] = '-';
+    }
+    buffer.appendBytes(bytes, pos, 20 - pos);
+  }
+
+  private static int writeDigitPair(byte[] bytes, int pos, int pair) {
+    bytes[--pos] = DIGIT_PAIRS[pair << 1 | 1];
+    bytes[--pos] = DIGIT_PAIRS[pair << 1];
+    return pos;
+  }
+
+  public static void writeLong(Buffer buffer, @Nullable Long l) {
+    if (null == l) {
+      writeNull(buffer);
+      return;
+    }
+    writeLong(buffer, l.longValue());
+  }
+
+  /// the shortest decimal that reads back as `f`, see [Schubfach]. non-finite values are written
+  /// as strings, the same as Jackson does by default
+  public static void writeFloat(Buffer buffer, float f) {
+    if (Float.isFinite(f)) {
+      byte[] bytes = Scratch.bytes(Schubfach.MAX_FLOAT_LENGTH);
+      buffer.appendBytes(bytes, 0, Schubfach.write(f, bytes, 0));
+    } else {
+      writeAsciiString(buffer, Float.toString(f));
+    }
+  }
+
+  public static void writeFloat(Buffer buffer, @Nullable Float f) {
+    if (null == f) {
+      writeNull(buffer);
+      return;
+    }
+    writeFloat(buffer, f.floatValue());
+  }
+
+  /// the shortest decimal that reads back as `d`, see [Schubfach]. non-finite values are written
+  /// as strings, the same as Jackson does by default
+  public static void writeDouble(Buffer buffer, double d) {
+    byte[] bytes = Scratch.bytes(Schubfach.MAX_DOUBLE_LENGTH);
+    buffer.appendBytes(bytes, 0, formatDouble(d, bytes, 0));
+  }
+
+  private static int formatDouble(double d, byte[] bytes, int pos) {
+    if (Double.isFinite(d)) {
+      return Schubfach.write(d, bytes, pos);
+    }
+    // at most `"-Infinity"`
+    bytes[pos++] = QUOTE;
+    String s = Double.toString(d);
+    for (int i = 0; i < s.length(); i++) {
+      bytes[pos++] = (byte) s.charAt(i);
+    }
+    bytes[pos++] = QUOTE;
+    return pos;
+  }
+
+  public static void writeDouble(Buffer buffer, @Nullable Double d) {
+    if (null == d) {
+      writeNull(buffer);
+      return;
+    }
+    writeDouble(buffer, d.doubleValue());
+  }
+
+  public static void writeLocalDate(Buffer buffer, @Nullable LocalDate date) {
+    if (null == date) {
+      writeNull(buffer);
+      return;
+    }
+    JsonTime.writeLocalDate(buffer, date);
+  }
+
+  public static void writeLocalDateTime(Buffer buffer, @Nullable LocalDateTime dateTime) {
+    if (null == dateTime) {
+      writeNull(buffer);
+      return;
+    }
+    JsonTime.writeLocalDateTime(buffer, dateTime);
+  }
+
+  public static void writeOffsetDateTime(Buffer buffer, @Nullable OffsetDateTime dateTime) {
+    if (null == dateTime) {
+      writeNull(buffer);
+      return;
+    }
+    JsonTime.writeOffsetDateTime(buffer, dateTime);
+  }
+
+  public static void writeIntArray(Buffer buffer, @Nullable int[] values) {
+    if (null == values) {
+      writeNull(buffer);
+      return;
+    }
+    buffer.appendByte((byte) '[');
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) {
+        buffer.appendByte((byte) ',');
+      }
+      writeInt(buffer, values[i]);
+    }
+    buffer.appendByte((byte) ']');
+  }
+
+  public static void writeLongArray(Buffer buffer, @Nullable long[] values) {
+    if (null == values) {
+      writeNull(buffer);
+      return;
+    }
+    buffer.appendByte((byte) '[');
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) {
+        buffer.appendByte((byte) ',');
+      }
+      writeLong(buffer, values[i]);
+    }
+    buffer.appendByte((byte) ']');
+  }
+
+  public static void writeDoubleArray(Buffer buffer, @Nullable double[] values) {
+    if (null == values) {
+      writeNull(buffer);
+      return;
+    }
+    // formatted in chunks into the scratch space, a value and the ',' before it take at most max
+    // bytes
+    int max = Schubfach.MAX_DOUBLE_LENGTH + 1;
+    byte[] bytes = Scratch.bytes(Math.min(values.length, DOUBLE_CHUNK) * max + 2);
+    int pos = 0;
+    bytes[pos++] = '[';
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) {
+        bytes[pos++] = ',';
+      }
+      pos = formatDouble(values[i], bytes, pos);
+      if (pos > (DOUBLE_CHUNK - 1) * max) {
+        buffer.appendBytes(bytes, 0, pos);
+        pos = 0;
+      }
+    }
+    bytes[pos++] = ']';
+    buffer.appendBytes(bytes, 0, pos);
+  }
+
+  /// the quoted json string of each constant indexed by ordinal, created once per enum by the
+  /// generated code
+  public static byte[][] enumNames(Enum<?>[] constants) {
+    byte[][] names = new byte[constants.length][];
+    for (Enum<?> constant : constants) {
+      Buffer name = Buffer.buffer();
+      writeString(name, constant.name());
+      names[constant.ordinal()] = name.getBytes();
+    }
+    return names;
+  }
+
+  public static void writeEnum(Buffer buffer, @Nullable Enum<?> value, byte[][] names) {
+    if (null == value) {
+      writeNull(buffer);
+      return;
+    }
+    buffer.appendBytes(names[value.ordinal()]);
+  }
+
+  /// a top level json array, each element is written by `writer` straight into `buffer`
+  public static <T> void writeArray(
+      Buffer buffer, Iterable<T> values, BiConsumer<Buffer, T> writer) {
+    buffer.appendByte((byte) '[');
+    boolean first = true;
+    for (T value : values) {
+      if (!first) {
+        buffer.appendByte((byte) ',');
+      }
+      first = false;
+      writer.accept(buffer, value);
+    }
+    buffer.appendByte((byte) ']');
+  }
+
+  /// url safe base64 without padding, the same as `JsonObject` encodes a `byte[]`
+  public static void writeBinary(Buffer buffer, @Nullable byte[] bytes) {
+    if (null == bytes) {
+      writeNull(buffer);
+      return;
+    }
+
+    buffer.appendByte(QUOTE);
+    int length = bytes.length;
+    byte[] chunk = Scratch.bytes(BASE64_CHUNK);
+    int pos = 0;
+    int i = 0;
+    for (; i + 3 <= length; i += 3) {
+      int b = (bytes[i] & 0xff) << 16 | (bytes[i + 1] & 0xff) << 8 | (bytes[i + 2] & 0xff);
+      chunk[pos] = BASE64_URL[b >>> 18];
+      chunk[pos + 1] = BASE64_URL[(b >>> 12) & 0x3f];
+      chunk[pos + 2] = BASE64_URL[(b >>> 6) & 0x3f];
+      chunk[pos + 3] = BASE64_URL[b & 0x3f];
+      pos += 4;
+      if (pos == BASE64_CHUNK) {
+        buffer.appendBytes(chunk, 0, pos);
+        pos = 0;
+      }
+    }
+
+    int remaining = length - i;
+    if (remaining > 0) {
+      int b = (bytes[i] & 0xff) << 16 | (remaining == 2 ? (bytes[i + 1] & 0xff) << 8 : 0);
+      chunk[pos++] = BASE64_URL[b >>> 18];
+      chunk[pos++] = BASE64_URL[(b >>> 12) & 0x3f];
+      if (remaining == 2) {
+        chunk[pos++] = BASE64_URL[(b >>> 6) & 0x3f];
+      }
+    }
+    buffer.appendBytes(chunk, 0, pos);
+    buffer.appendByte(QUOTE);
+  }
+
+  /// the caller guarantees `s` is ascii and needs no escaping
+  private static void writeAsciiString(Buffer buffer, String s) {
+    buffer.appendByte(QUOTE);
+    buffer.appendString(s);
+    buffer.appendByte(QUOTE);
+  }
+}
@@ -0,0 +1,213 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.runtime;
+
+import jakarta.annotation.Nullable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.function.ToIntFunction;
+
+/// The number of bytes the matching [JsonOutput] writer appends, used by the generated
+/// `{ORIGINAL_CLASS_NAME}Json.serializedSize` methods, which return the number of bytes
+/// `writeTo` writes.
+///
+/// Sizes are exact except for `float` and `double`, which are counted at their longest instead
+/// of being formatted twice, so `serializedSize` is an upper bound when a record has those.
+public final class JsonSize {
+
+  public static final int NULL = 4;
+
+  /// `-1.17549435E-38`, or a quoted `-Infinity`
+  private static final int MAX_FLOAT = 15;
+
+  /// `-2.2250738585072014E-308`
+  private static final int MAX_DOUBLE = 24;
+
+  private JsonSize() {}
+
+  /// the quotes plus the escaped UTF-8 bytes
+  public static int ofString(@Nullable String s) {
+    if (null == s) {
+      return NULL;
+    }
+
+    int size = 2;
+    int length = s.length();
+    for (int i = 0; i < length; i++) {
+      char c = s.charAt(i);
+      if (c < 0x80) {
+        size += escapedSize(c);
+      } else if (c < 0x800) {
+        size += 2;
+      } else if (Character.isHighSurrogate(c)
+          && i + 1 < length
+          && Character.isLowSurrogate(s.charAt(i + 1))) {
+        size += 4;
+        i++;
+      } else if (Character.isSurrogate(c)) {
+        size += 1;
+      } else {
+        size += 3;
+      }
+    }
+    return size;
+  }
+
+  /// the quotes plus one byte per char, see [JsonOutput#writeUnescaped]
+  public static int ofUnescaped(@Nullable String s) {
+    return null == s ? NULL : s.length() + 2;
+  }
+
+  private static int escapedSize(char c) {
+    return switch (c) {
+      case '"', '\\', '\n', '\r', '\t', '\b', '\f' -> 2;
+      default -> c < 0x20 ? 6 : 1;
+    };
+  }
+
+  public static int ofChar(char c) {
+    return 2 + (c < 0x80 ? escapedSize(c) : c < 0x800 ? 2 : Character.isSurrogate(c) ? 1 : 3);
+  }
+
+  public static int ofChar(@Nullable Character c) {
+    return null == c ? NULL : ofChar(c.charValue());
+  }
+
+  public static int ofBoolean(boolean b) {
+    return b ? 4 : 5;
+  }
+
+  public static int ofBoolean(@Nullable Boolean b) {
+    return null == b ? NULL : ofBoolean(b.booleanValue());
+  }
+
+  public static int ofInt(int i) {
+    return ofLong(i);
+  }
+
+  public static int ofInt(@Nullable Integer i) {
+    return null == i ? NULL : ofLong(i.longValue());
+  }
+
+  public static int ofShort(short s) {
+    return ofLong(s);
+  }
+
+  public static int ofShort(@Nullable Short s) {
+    return null == s ? NULL : ofLong(s.longValue());
+  }
+
+  public static int ofByte(byte b) {
+    return ofLong(b);
+  }
+
+  public static int ofByte(@Nullable Byte b) {
+    return null == b ? NULL : ofLong(b.longValue());
+  }
+
+  /// the number of digits plus the sign
+  public static int ofLong(long l) {
+    if (l < 0) {
+      // -Long.MIN_VALUE overflows, it has 19 digits
+      return l == Long.MIN_VALUE ? 20 : 1 + digits(-l);
+    }
+    return digits(l);
+  }
+
+  public static int ofLong(@Nullable Long l) {
+    return null == l ? NULL : ofLong(l.longValue());
+  }
+
+  private static int digits(long l) {
+    int digits = 1;
+    for (long limit = 10; digits < 19 && l >= limit; limit *= 10) {
+      digits++;
+    }
+    return digits;
+  }
+
+  public static int ofFloat(float f) {
+    return MAX_FLOAT;
+  }
+
+  public static int ofFloat(@Nullable Float f) {
+    return null == f ? NULL : MAX_FLOAT;
+  }
+
+  public static int ofDouble(double d) {
+    return MAX_DOUBLE;
+  }
+
+  public static int ofDouble(@Nullable Double d) {
+    return null == d ? NULL : MAX_DOUBLE;
+  }
+
+  public static int ofLocalDate(@Nullable LocalDate date) {
+    return null == date ? NULL : JsonTime.size(date);
+  }
+
+  public static int ofLocalDateTime(@Nullable LocalDateTime dateTime) {
+    return null == dateTime ? NULL : JsonTime.size(dateTime);
+  }
+
+  public static int ofOffsetDateTime(@Nullable OffsetDateTime dateTime) {
+    return null == dateTime ? NULL : JsonTime.size(dateTime);
+  }
+
+  public static int ofIntArray(@Nullable int[] values) {
+    if (null == values) {
+      return NULL;
+    }
+    int size = arraySize(values.length);
+    for (int value : values) {
+      size += ofLong(value);
+    }
+    return size;
+  }
+
+  public static int ofLongArray(@Nullable long[] values) {
+    if (null == values) {
+      return NULL;
+    }
+    int size = arraySize(values.length);
+    for (long value : values) {
+      size += ofLong(value);
+    }
+    return size;
+  }
+
+  public static int ofDoubleArray(@Nullable double[] values) {
+    if (null == values) {
+      return NULL;
+    }
+    return arraySize(values.length) + values.length * MAX_DOUBLE;
+  }
+
+  /// the quotes plus unpadded base64
+  public static int ofBinary(@Nullable byte[] bytes) {
+    return null == bytes ? NULL : 2 + (bytes.length * 4 + 2) / 3;
+  }
+
+  /// `names` is the table from [JsonOutput#enumNames]
+  public static int ofEnum(@Nullable Enum<?> value, byte[][] names) {
+    return null == value ? NULL : names[value.ordinal()].length;
+  }
+
+  public static <T> int ofIterable(@Nullable Iterable<T> values, ToIntFunction<T> size) {
+    if (null == values) {
+      return NULL;
+    }
+    int count = 0;
+    int total = 0;
+    for (T value : values) {
+      total += size.applyAsInt(value);
+      count++;
+    }
+    return total + arraySize(count);
+  }
+
+  /// the brackets and the commas between the elements
+  private static int arraySize(int length) {
+    return 2 + Math.max(0, length - 1);
+  }
+}
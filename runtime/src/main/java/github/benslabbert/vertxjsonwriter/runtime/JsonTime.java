@@ -0,0 +1,357 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.runtime;
+
+import io.vertx.core.buffer.Buffer;
+import jakarta.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.Year;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+
+/// ISO-8601 codecs for the `java.time` components.
+///
+/// The common fixed layouts, a four digit year and an offset of whole minutes, are written and
+/// parsed by offset. Anything else goes through the `DateTimeFormatter.ISO_*` formatters, so the
+/// results are always the same as the formatters would give. `null` is passed through.
+public final class JsonTime {
+
+  /// `"yyyy-MM-ddTHH:mm:ss.nnnnnnnnn+hh:mm"`
+  private static final int MAX_LENGTH = 37;
+
+  private JsonTime() {}
+
+  public static @Nullable String formatLocalDate(@Nullable LocalDate date) {
+    if (null == date) {
+      return null;
+    }
+    byte[] bytes = Scratch.bytes(MAX_LENGTH);
+    int end = encode(bytes, 0, date);
+    return end < 0 ? date.format(DateTimeFormatter.ISO_DATE) : ascii(bytes, end);
+  }
+
+  public static @Nullable String formatLocalDateTime(@Nullable LocalDateTime dateTime) {
+    if (null == dateTime) {
+      return null;
+    }
+    byte[] bytes = Scratch.bytes(MAX_LENGTH);
+    int end = encode(bytes, 0, dateTime);
+    return end < 0 ? dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) : ascii(bytes, end);
+  }
+
+  public static @Nullable String formatOffsetDateTime(@Nullable OffsetDateTime dateTime) {
+    if (null == dateTime) {
+      return null;
+    }
+    byte[] bytes = Scratch.bytes(MAX_LENGTH);
+    int end = encode(bytes, 0, dateTime);
+    return end < 0 ? dateTime.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME) : ascii(bytes, end);
+  }
+
+  /// writes the quoted value, the caller handles `null`
+  static void writeLocalDate(Buffer buffer, LocalDate date) {
+    byte[] bytes = Scratch.bytes(MAX_LENGTH);
+    bytes[0] = '"';
+    int end = encode(bytes, 1, date);
+    write(buffer, bytes, end, date, DateTimeFormatter.ISO_DATE);
+  }
+
+  static void writeLocalDateTime(Buffer buffer, LocalDateTime dateTime) {
+    byte[] bytes = Scratch.bytes(MAX_LENGTH);
+    bytes[0] = '"';
+    int end = encode(bytes, 1, dateTime);
+    write(buffer, bytes, end, dateTime, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+  }
+
+  static void writeOffsetDateTime(Buffer buffer, OffsetDateTime dateTime) {
+    byte[] bytes = Scratch.bytes(MAX_LENGTH);
+    bytes[0] = '"';
+    int end = encode(bytes, 1, dateTime);
+    write(buffer, bytes, end, dateTime, DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+  }
+
+  private static void write(
+      Buffer buffer, byte[] bytes, int end, TemporalAccessor value, DateTimeFormatter formatter) {
+    if (end < 0) {
+      buffer.appendByte((byte) '"');
+      buffer.appendString(formatter.format(value));
+      buffer.appendByte((byte) '"');
+      return;
+    }
+    bytes[end] = '"';
+    buffer.appendBytes(bytes, 0, end + 1);
+  }
+
+  /// the length of the quoted value `write` appends, without formatting the fixed layouts
+  static int size(LocalDate date) {
+    int year = date.getYear();
+    if (year < 0 || year > 9999) {
+      return 2 + date.format(DateTimeFormatter.ISO_DATE).length();
+    }
+    return 12;
+  }
+
+  static int size(LocalDateTime dateTime) {
+    int year = dateTime.getYear();
+    if (year < 0 || year > 9999) {
+      return 2 + dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME).length();
+    }
+    return 21 + fractionSize(dateTime.getNano());
+  }
+
+  static int size(OffsetDateTime dateTime) {
+    int totalSeconds = dateTime.getOffset().getTotalSeconds();
+    int year = dateTime.getYear();
+    if (totalSeconds % 60 != 0 || year < 0 || year > 9999) {
+      return 2 + dateTime.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME).length();
+    }
+    return 21 + fractionSize(dateTime.getNano()) + (totalSeconds == 0 ? 1 : 6);
+  }
+
+  private static int fractionSize(int nano) {
+    if (nano == 0) {
+      return 0;
+    }
+    int digits = 9;
+    while (nano % 10 == 0) {
+      nano /= 10;
+      digits--;
+    }
+    return 1 + digits;
+  }
+
+  /// @throws java.time.format.DateTimeParseException if `s` is not an ISO date
+  public static @Nullable LocalDate parseLocalDate(@Nullable String s) {
+    if (null == s) {
+      return null;
+    }
+    if (s.length() == 10 && isDateAt(s)) {
+      return LocalDate.of(year(s), twoDigits(s, 5), twoDigits(s, 8));
+    }
+    return LocalDate.parse(s, DateTimeFormatter.ISO_DATE);
+  }
+
+  /// @throws java.time.format.DateTimeParseException if `s` is not an ISO local date time
+  public static @Nullable LocalDateTime parseLocalDateTime(@Nullable String s) {
+    if (null == s) {
+      return null;
+    }
+    LocalDateTime dateTime = localDateTime(s, s.length());
+    if (null != dateTime) {
+      return dateTime;
+    }
+    return LocalDateTime.parse(s, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+  }
+
+  /// @throws java.time.format.DateTimeParseException if `s` is not an ISO offset date time
+  public static @Nullable OffsetDateTime parseOffsetDateTime(@Nullable String s) {
+    if (null == s) {
+      return null;
+    }
+
+    int length = s.length();
+    LocalDateTime dateTime = null;
+    ZoneOffset offset = null;
+    if (length > 0 && s.charAt(length - 1) == 'Z') {
+      dateTime = localDateTime(s, length - 1);
+      offset = ZoneOffset.UTC;
+    } else if (length > 6) {
+      offset = offset(s, length - 6);
+      dateTime = null == offset ? null : localDateTime(s, length - 6);
+    }
+
+    if (null != dateTime) {
+      return OffsetDateTime.of(dateTime, offset);
+    }
+    return OffsetDateTime.parse(s, DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+  }
+
+  /// `yyyy-MM-ddTHH:mm[:ss[.n]]` ending at `end`, or `null` to use the formatter
+  private static @Nullable LocalDateTime localDateTime(String s, int end) {
+    if (end < 16
+        || !isDateAt(s)
+        || s.charAt(10) != 'T'
+        || !isTwoDigits(s, 11, 23)
+        || s.charAt(13) != ':'
+        || !isTwoDigits(s, 14, 59)) {
+      return null;
+    }
+
+    int second = 0;
+    int nano = 0;
+    if (end > 16) {
+      if (end < 19 || s.charAt(16) != ':' || !isTwoDigits(s, 17, 59)) {
+        return null;
+      }
+      second = twoDigits(s, 17);
+    }
+    if (end > 19) {
+      if (end == 20 || end > 29 || s.charAt(19) != '.') {
+        return null;
+      }
+      for (int i = 20; i < 29; i++) {
+        nano *= 10;
+        if (i < end) {
+          char c = s.charAt(i);
+          if (!isDigit(c)) {
+            return null;
+          }
+          nano += c - '0';
+        }
+      }
+    }
+
+    return LocalDateTime.of(
+        year(s),
+        twoDigits(s, 5),
+        twoDigits(s, 8),
+        twoDigits(s, 11),
+        twoDigits(s, 14),
+        second,
+        nano);
+  }
+
+  /// `+hh:mm` at `index`, or `null` to use the formatter
+  private static @Nullable ZoneOffset offset(String s, int index) {
+    char sign = s.charAt(index);
+    if ((sign != '+' && sign != '-')
+        || !isTwoDigits(s, index + 1, 18)
+        || s.charAt(index + 3) != ':'
+        || !isTwoDigits(s, index + 4, 59)) {
+      return null;
+    }
+
+    int hours = twoDigits(s, index + 1);
+    int minutes = twoDigits(s, index + 4);
+    if (hours == 18 && minutes != 0) {
+      return null;
+    }
+    int seconds = hours * 3600 + minutes * 60;
+    return ZoneOffset.ofTotalSeconds(sign == '-' ? -seconds : seconds);
+  }
+
+  /// @return the end of the value, or `-1` if the formatter has to be used
+  private static int encode(byte[] bytes, int pos, LocalDate date) {
+    int year = date.getYear();
+    if (year < 0 || year > 9999) {
+      return -1;
+    }
+    pos = fourDigits(bytes, pos, year);
+    bytes[pos++] = '-';
+    pos = twoDigits(bytes, pos, date.getMonthValue());
+    bytes[pos++] = '-';
+    return twoDigits(bytes, pos, date.getDayOfMonth());
+  }
+
+  private static int encode(byte[] bytes, int pos, LocalDateTime dateTime) {
+    pos = encode(bytes, pos, dateTime.toLocalDate());
+    if (pos < 0) {
+      return -1;
+    }
+    bytes[pos++] = 'T';
+    pos = twoDigits(bytes, pos, dateTime.getHour());
+    bytes[pos++] = ':';
+    pos = twoDigits(bytes, pos, dateTime.getMinute());
+    bytes[pos++] = ':';
+    pos = twoDigits(bytes, pos, dateTime.getSecond());
+
+    // the formatter writes as few fraction digits as possible
+    int nano = dateTime.getNano();
+    if (nano == 0) {
+      return pos;
+    }
+    bytes[pos++] = '.';
+    int digits = 9;
+    while (nano % 10 == 0) {
+      nano /= 10;
+      digits--;
+    }
+    for (int i = pos + digits - 1; i >= pos; i--) {
+      bytes[i] = (byte) ('0' + nano % 10);
+      nano /= 10;
+    }
+    return pos + digits;
+  }
+
+  private static int encode(byte[] bytes, int pos, OffsetDateTime dateTime) {
+    int totalSeconds = dateTime.getOffset().getTotalSeconds();
+    if (totalSeconds % 60 != 0) {
+      return -1;
+    }
+    pos = encode(bytes, pos, dateTime.toLocalDateTime());
+    if (pos < 0) {
+      return -1;
+    }
+    if (totalSeconds == 0) {
+      bytes[pos++] = 'Z';
+      return pos;
+    }
+
+    bytes[pos++] = (byte) (totalSeconds < 0 ? '-' : '+');
+    int minutes = Math.abs(totalSeconds) / 60;
+    pos = twoDigits(bytes, pos, minutes / 60);
+    bytes[pos++] = ':';
+    return twoDigits(bytes, pos, minutes % 60);
+  }
+
+  private static int fourDigits(byte[] bytes, int pos, int value) {
+    pos = twoDigits(bytes, pos, value / 100);
+    return twoDigits(bytes, pos, value % 100);
+  }
+
+  private static int twoDigits(byte[] bytes, int pos, int value) {
+    bytes[pos] = (byte) ('0' + value / 10);
+    bytes[pos + 1] = (byte) ('0' + value % 10);
+    return pos + 2;
+  }
+
+  private static String ascii(byte[] bytes, int end) {
+    return new String(bytes, 0, end, StandardCharsets.ISO_8859_1);
+  }
+
+  private static int year(String s) {
+    return twoDigits(s, 0) * 100 + twoDigits(s, 2);
+  }
+
+  /// `yyyy-MM-dd` at the start of `s`, with a day that exists in that month
+  static boolean isDateAt(String s) {
+    if (s.charAt(4) != '-' || s.charAt(7) != '-') {
+      return false;
+    }
+    if (!isTwoDigits(s, 0, 99) || !isTwoDigits(s, 2, 99)) {
+      return false;
+    }
+    if (!isTwoDigits(s, 5, 12) || !isTwoDigits(s, 8, 31)) {
+      return false;
+    }
+
+    int month = twoDigits(s, 5);
+    int day = twoDigits(s, 8);
+    if (month == 0 || day == 0) {
+      return false;
+    }
+
+    int maxDay =
+        switch (month) {
+          case 2 -> Year.isLeap(year(s)) ? 29 : 28;
+          case 4, 6, 9, 11 -> 30;
+          default -> 31;
+        };
+    return day <= maxDay;
+  }
+
+  static boolean isTwoDigits(String s, int index, int max) {
+    return isDigit(s.charAt(index)) && isDigit(s.charAt(index + 1)) && twoDigits(s, index) <= max;
+  }
+
+  static int twoDigits(String s, int index) {
+    return (s.charAt(index) - '0') * 10 + (s.charAt(index + 1) - '0');
+  }
+
+  static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+}
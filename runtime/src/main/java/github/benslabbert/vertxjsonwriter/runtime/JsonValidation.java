@@ -0,0 +1,280 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.runtime;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/// Checks used by the generated `{ORIGINAL_CLASS_NAME}Json.validate` methods.
+///
+/// The rules follow the json schema returned by `schemaBuilder()`, so a value is valid here if and
+/// only if `getValidator()` accepts it. The messages are only built once a check has failed.
+public final class JsonValidation {
+
+  private JsonValidation() {}
+
+  /// the same as matching the `.*\S.*` pattern used in the json schema
+  public static boolean isBlank(String s) {
+    for (int i = 0; i < s.length(); i++) {
+      switch (s.charAt(i)) {
+        case ' ', '\t', '\n', '\u000B', '\f', '\r' -> {}
+        default -> {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /// json schema counts code points, not chars
+  public static int length(String s) {
+    return s.codePointCount(0, s.length());
+  }
+
+  /// whole numbers are integers, even if they were written with a fraction like `1.0`
+  public static boolean isInteger(@Nullable Object value) {
+    return switch (value) {
+      case Integer ignore -> true;
+      case Long ignore -> true;
+      case Short ignore -> true;
+      case Byte ignore -> true;
+      case BigInteger ignore -> true;
+      case BigDecimal d -> d.scale() <= 0 || d.stripTrailingZeros().scale() <= 0;
+      case Number n -> {
+        double d = n.doubleValue();
+        yield Double.isFinite(d) && d == Math.rint(d);
+      }
+      case null, default -> false;
+    };
+  }
+
+  /// the token based version of [#isInteger(Object)] for the validating decoders
+  public static boolean isIntegerToken(JsonParser parser) throws IOException {
+    JsonToken token = parser.currentToken();
+    if (JsonToken.VALUE_NUMBER_INT == token) {
+      return true;
+    }
+    if (JsonToken.VALUE_NUMBER_FLOAT != token) {
+      return false;
+    }
+    if (JsonParser.NumberType.BIG_DECIMAL == parser.getNumberType()) {
+      return isInteger(parser.getDecimalValue());
+    }
+    return isInteger(parser.getDoubleValue());
+  }
+
+  public static boolean lessThan(Number value, long bound) {
+    return compare(value, bound) < 0;
+  }
+
+  public static boolean greaterThan(Number value, long bound) {
+    return compare(value, bound) > 0;
+  }
+
+  private static int compare(Number value, long bound) {
+    return switch (value) {
+      case Integer i -> Long.compare(i, bound);
+      case Long l -> Long.compare(l, bound);
+      case Short s -> Long.compare(s, bound);
+      case Byte b -> Long.compare(b, bound);
+      case BigInteger i -> i.compareTo(BigInteger.valueOf(bound));
+      case BigDecimal d -> d.compareTo(BigDecimal.valueOf(bound));
+      default -> Double.compare(value.doubleValue(), bound);
+    };
+  }
+
+  /// `yyyy-MM-dd` with a day that exists in that month
+  public static boolean isDate(String s) {
+    return s.length() == 10 && JsonTime.isDateAt(s);
+  }
+
+  /// `yyyy-MM-ddTHH:mm:ss` with optional fraction of a second and offset, the same forms the json
+  /// schema `date-time` format accepts
+  public static boolean isDateTime(String s) {
+    int length = s.length();
+    if (length < 19 || !JsonTime.isDateAt(s)) {
+      return false;
+    }
+
+    char separator = s.charAt(10);
+    if (separator != 'T' && separator != 't' && separator != ' ') {
+      return false;
+    }
+
+    if (!JsonTime.isTwoDigits(s, 11, 23)
+        || s.charAt(13) != ':'
+        || !JsonTime.isTwoDigits(s, 14, 59)
+        || s.charAt(16) != ':'
+        || !JsonTime.isTwoDigits(s, 17, 60)) {
+      return false;
+    }
+
+    int i = 19;
+    if (i < length && s.charAt(i) == '.') {
+      int start = ++i;
+      while (i < length && JsonTime.isDigit(s.charAt(i))) {
+        i++;
+      }
+      if (i == start) {
+        return false;
+      }
+    }
+
+    if (i == length) {
+      return true;
+    }
+
+    char zone = s.charAt(i);
+    if (zone == 'Z' || zone == 'z') {
+      return i + 1 == length;
+    }
+    if (zone != '+' && zone != '-') {
+      return false;
+    }
+
+    // +hh, +hhmm or +hh:mm
+    int remaining = length - i - 1;
+    return switch (remaining) {
+      case 2 -> JsonTime.isTwoDigits(s, i + 1, 99);
+      case 4 -> JsonTime.isTwoDigits(s, i + 1, 99) && JsonTime.isTwoDigits(s, i + 3, 99);
+      case 5 ->
+          JsonTime.isTwoDigits(s, i + 1, 99)
+              && s.charAt(i + 3) == ':'
+              && JsonTime.isTwoDigits(s, i + 4, 99);
+      default -> false;
+    };
+  }
+
+  /// @return the index of the first item that equals an earlier one, or `-1` if all are unique
+  public static int duplicateIndex(JsonArray array) {
+    int size = array.size();
+    if (size < 2) {
+      return -1;
+    }
+
+    Set<Object> seen = HashSet.newHashSet(size);
+    for (int i = 0; i < size; i++) {
+      if (!seen.add(normalize(array.getValue(i)))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /// json schema considers `1` and `1.0` to be equal
+  private static @Nullable Object normalize(@Nullable Object value) {
+    return switch (value) {
+      case Integer i -> i.longValue();
+      case Short sh -> sh.longValue();
+      case Byte b -> b.longValue();
+      case Double d -> normalize(d.doubleValue());
+      case Float f -> normalize(f.doubleValue());
+      case null, default -> value;
+    };
+  }
+
+  private static Object normalize(double d) {
+    if (d == Math.rint(d) && Math.abs(d) < 0x1p63) {
+      return (long) d;
+    }
+    return d;
+  }
+
+  public static String typeName(@Nullable Object value) {
+    return switch (value) {
+      case null -> "null";
+      case String ignore -> "string";
+      case Boolean ignore -> "boolean";
+      case JsonObject ignore -> "object";
+      case Map<?, ?> ignore -> "object";
+      case JsonArray ignore -> "array";
+      case List<?> ignore -> "array";
+      case Number n -> isInteger(n) ? "integer" : "number";
+      default -> value.getClass().getSimpleName();
+    };
+  }
+
+  public static String missing(String property) {
+    return "Instance does not have required property \"" + property + "\"";
+  }
+
+  public static String invalidType(@Nullable Object value, String expected) {
+    return "Instance type " + typeName(value) + " is invalid. Expected " + expected;
+  }
+
+  public static String invalidType(JsonParser parser, String expected) throws IOException {
+    String type =
+        switch (parser.currentToken()) {
+          case VALUE_STRING -> "string";
+          case VALUE_NUMBER_INT -> "integer";
+          case VALUE_NUMBER_FLOAT -> isIntegerToken(parser) ? "integer" : "number";
+          case VALUE_TRUE, VALUE_FALSE -> "boolean";
+          case VALUE_NULL -> "null";
+          case START_ARRAY -> "array";
+          case START_OBJECT -> "object";
+          case null, default -> String.valueOf(parser.currentToken());
+        };
+    return "Instance type " + type + " is invalid. Expected " + expected;
+  }
+
+  /// `char` components are written as a single character string
+  public static String invalidChar() {
+    return "String is not a single non blank character";
+  }
+
+  /// valid against the json schema, but out of range for the java type of the component, for
+  /// example an offset on a `LocalDateTime`
+  public static String notRepresentable(String type) {
+    return "Instance can not be represented as " + type;
+  }
+
+  /// `constants` is the json array of the names, the same as the `enum` keyword of the schema
+  public static String notInEnum(String constants) {
+    return "Instance does not match any of " + constants;
+  }
+
+  public static String blank() {
+    return "String does not match pattern";
+  }
+
+  public static String invalidFormat(String format) {
+    return "String does not match format \"" + format + "\"";
+  }
+
+  public static String tooShort(int length, int minLength) {
+    return "String is too short (" + length + " < " + minLength + ")";
+  }
+
+  public static String tooLong(int length, int maxLength) {
+    return "String is too long (" + length + " > " + maxLength + ")";
+  }
+
+  public static String lessThanMinimum(Number value, long minimum) {
+    return value + " is less than " + minimum;
+  }
+
+  public static String greaterThanMaximum(Number value, long maximum) {
+    return value + " is greater than " + maximum;
+  }
+
+  public static String tooFewItems(int size, int minItems) {
+    return "Array has too few items (" + size + " < " + minItems + ")";
+  }
+
+  public static String tooManyItems(int size, int maxItems) {
+    return "Array has too many items (" + size + " > " + maxItems + ")";
+  }
+
+  public static String duplicateItem(int index) {
+    return "Duplicate item at index " + index;
+  }
+}
@@ -0,0 +1,205 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.runtime;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/// Reads the positional binary format written by [PositionalOutput].
+///
+/// Used by the generated `{ORIGINAL_CLASS_NAME}Json.readPositional` methods, every `read*` method
+/// advances the position past the value it reads.
+public final class PositionalInput {
+
+  private final Buffer buffer;
+  private int pos;
+
+  private PositionalInput(Buffer buffer, int pos) {
+    this.buffer = buffer;
+    this.pos = pos;
+  }
+
+  /// checks the schema `fingerprint` and reads a single value from `buffer`
+  public static <T> T read(Buffer buffer, long fingerprint, Function<PositionalInput, T> reader) {
+    try {
+      long found = buffer.getLong(0);
+      if (fingerprint != found) {
+        throw new DecodeException(
+            "schema fingerprint mismatch: expected %016x but found %016x"
+                .formatted(fingerprint, found));
+      }
+      PositionalInput in = new PositionalInput(buffer, Long.BYTES);
+      T value = reader.apply(in);
+      if (in.pos != buffer.length()) {
+        throw new DecodeException("Unexpected trailing bytes");
+      }
+      return value;
+    } catch (IndexOutOfBoundsException e) {
+      throw new DecodeException("Failed to decode: truncated input", e);
+    } catch (DateTimeException e) {
+      throw new DecodeException("Failed to decode:" + e.getMessage(), e);
+    }
+  }
+
+  public <T> List<T> readList(Function<PositionalInput, T> reader) {
+    int count = readCount();
+    List<T> list = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      list.add(reader.apply(this));
+    }
+    return Collections.unmodifiableList(list);
+  }
+
+  public <T> Set<T> readSet(Function<PositionalInput, T> reader) {
+    int count = readCount();
+    Set<T> set = HashSet.newHashSet(count);
+    for (int i = 0; i < count; i++) {
+      set.add(reader.apply(this));
+    }
+    return Collections.unmodifiableSet(set);
+  }
+
+  public String readString() {
+    int length = readCount();
+    String s = buffer.getString(pos, pos + length, StandardCharsets.UTF_8.name());
+    pos += length;
+    return s;
+  }
+
+  public boolean readBoolean() {
+    return readByte() != 0;
+  }
+
+  public byte readByte() {
+    return buffer.getByte(pos++);
+  }
+
+  public char readChar() {
+    return (char) readVarInt();
+  }
+
+  public short readShort() {
+    return (short) readInt();
+  }
+
+  public int readInt() {
+    int i = readVarInt();
+    return (i >>> 1) ^ -(i & 1);
+  }
+
+  public long readLong() {
+    long l = readVarLong();
+    return (l >>> 1) ^ -(l & 1);
+  }
+
+  public float readFloat() {
+    float f = buffer.getFloat(pos);
+    pos += Float.BYTES;
+    return f;
+  }
+
+  public double readDouble() {
+    double d = buffer.getDouble(pos);
+    pos += Double.BYTES;
+    return d;
+  }
+
+  /// `constants` is the cached `values()` of the enum
+  public <E extends Enum<E>> E readEnum(E[] constants) {
+    int ordinal = readVarInt();
+    if (ordinal < 0 || ordinal >= constants.length) {
+      throw new DecodeException("unknown ordinal " + ordinal);
+    }
+    return constants[ordinal];
+  }
+
+  public int[] readIntArray() {
+    int[] values = new int[readCount()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = readInt();
+    }
+    return values;
+  }
+
+  public long[] readLongArray() {
+    long[] values = new long[readCount()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = readLong();
+    }
+    return values;
+  }
+
+  public double[] readDoubleArray() {
+    double[] values = new double[readCount()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = readDouble();
+    }
+    return values;
+  }
+
+  public byte[] readBinary() {
+    byte[] bytes = new byte[readCount()];
+    buffer.getBytes(pos, pos + bytes.length, bytes);
+    pos += bytes.length;
+    return bytes;
+  }
+
+  public LocalDate readLocalDate() {
+    return LocalDate.ofEpochDay(readLong());
+  }
+
+  public LocalDateTime readLocalDateTime() {
+    LocalDate date = readLocalDate();
+    return LocalDateTime.of(date, LocalTime.ofNanoOfDay(readVarLong()));
+  }
+
+  public OffsetDateTime readOffsetDateTime() {
+    LocalDateTime dateTime = readLocalDateTime();
+    return OffsetDateTime.of(dateTime, ZoneOffset.ofTotalSeconds(readInt()));
+  }
+
+  /// a length or element count, which must fit in the remaining input
+  private int readCount() {
+    int count = readVarInt();
+    if (count < 0 || count > buffer.length() - pos) {
+      throw new IndexOutOfBoundsException("count " + count);
+    }
+    return count;
+  }
+
+  private int readVarInt() {
+    int i = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      byte b = readByte();
+      i |= (b & 0x7F) << shift;
+      if (b >= 0) {
+        return i;
+      }
+    }
+    throw new DecodeException("Malformed varint");
+  }
+
+  private long readVarLong() {
+    long l = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      byte b = readByte();
+      l |= (long) (b & 0x7F) << shift;
+      if (b >= 0) {
+        return l;
+      }
+    }
+    throw new DecodeException("Malformed varint");
+  }
+}
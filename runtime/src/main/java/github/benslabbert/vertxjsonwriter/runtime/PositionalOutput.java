@@ -0,0 +1,158 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.runtime;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.EncodeException;
+import jakarta.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.function.BiConsumer;
+
+/// Writes the positional binary format of the `{ORIGINAL_CLASS_NAME}Json.toPositional` methods
+/// generated for `@JsonWriter(positional = true)`.
+///
+/// The components are written in declaration order without names. A record starts with a bitmap
+/// of its `@Nullable` components, one bit per component and only the non-null ones follow.
+/// Integers are zigzag varints, floating point numbers are fixed width, strings and `byte[]` are
+/// UTF-8 or raw bytes behind a varint length and collections and arrays are a varint count followed
+/// by the non-null elements. Both ends must run the same generated code, [PositionalInput] checks
+/// the schema fingerprint written in front of the top level record.
+public final class PositionalOutput {
+
+  private PositionalOutput() {}
+
+  /// writes the `fingerprint` of the schema followed by `value`
+  public static <T> Buffer write(long fingerprint, T value, BiConsumer<Buffer, T> writer) {
+    Buffer buffer = Buffer.buffer();
+    buffer.appendLong(fingerprint);
+    writer.accept(buffer, requireNonNull(value, "#"));
+    return buffer;
+  }
+
+  /// the components that are not `@Nullable` have no bit in the bitmap
+  public static <T> T requireNonNull(@Nullable T value, String field) {
+    if (null == value) {
+      throw new EncodeException("field '%s' is null but not @Nullable".formatted(field));
+    }
+    return value;
+  }
+
+  public static <T> void writeCollection(
+      Buffer buffer, Collection<T> values, BiConsumer<Buffer, T> writer) {
+    int count = 0;
+    for (T value : values) {
+      if (null != value) {
+        count++;
+      }
+    }
+    writeVarInt(buffer, count);
+    for (T value : values) {
+      if (null != value) {
+        writer.accept(buffer, value);
+      }
+    }
+  }
+
+  public static void writeString(Buffer buffer, String s) {
+    byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+    writeVarInt(buffer, bytes.length);
+    buffer.appendBytes(bytes);
+  }
+
+  public static void writeBoolean(Buffer buffer, boolean b) {
+    buffer.appendByte(b ? (byte) 1 : (byte) 0);
+  }
+
+  public static void writeByte(Buffer buffer, byte b) {
+    buffer.appendByte(b);
+  }
+
+  public static void writeChar(Buffer buffer, char c) {
+    writeVarInt(buffer, c);
+  }
+
+  public static void writeShort(Buffer buffer, short s) {
+    writeInt(buffer, s);
+  }
+
+  public static void writeInt(Buffer buffer, int i) {
+    writeVarInt(buffer, (i << 1) ^ (i >> 31));
+  }
+
+  public static void writeLong(Buffer buffer, long l) {
+    writeVarLong(buffer, (l << 1) ^ (l >> 63));
+  }
+
+  public static void writeFloat(Buffer buffer, float f) {
+    buffer.appendFloat(f);
+  }
+
+  public static void writeDouble(Buffer buffer, double d) {
+    buffer.appendDouble(d);
+  }
+
+  /// the ordinal, the fingerprint includes the constants so a reordered enum is rejected
+  public static void writeEnum(Buffer buffer, Enum<?> value) {
+    writeVarInt(buffer, value.ordinal());
+  }
+
+  public static void writeIntArray(Buffer buffer, int[] values) {
+    writeVarInt(buffer, values.length);
+    for (int value : values) {
+      writeInt(buffer, value);
+    }
+  }
+
+  public static void writeLongArray(Buffer buffer, long[] values) {
+    writeVarInt(buffer, values.length);
+    for (long value : values) {
+      writeLong(buffer, value);
+    }
+  }
+
+  public static void writeDoubleArray(Buffer buffer, double[] values) {
+    writeVarInt(buffer, values.length);
+    for (double value : values) {
+      buffer.appendDouble(value);
+    }
+  }
+
+  public static void writeBinary(Buffer buffer, byte[] bytes) {
+    writeVarInt(buffer, bytes.length);
+    buffer.appendBytes(bytes);
+  }
+
+  public static void writeLocalDate(Buffer buffer, LocalDate date) {
+    writeLong(buffer, date.toEpochDay());
+  }
+
+  public static void writeLocalDateTime(Buffer buffer, LocalDateTime dateTime) {
+    writeLocalDate(buffer, dateTime.toLocalDate());
+    writeVarLong(buffer, dateTime.toLocalTime().toNanoOfDay());
+  }
+
+  public static void writeOffsetDateTime(Buffer buffer, OffsetDateTime dateTime) {
+    writeLocalDateTime(buffer, dateTime.toLocalDateTime());
+    writeInt(buffer, dateTime.getOffset().getTotalSeconds());
+  }
+
+  /// unsigned, seven bits per byte with the high bit set on all but the last byte
+  static void writeVarInt(Buffer buffer, int i) {
+    while ((i & ~0x7F) != 0) {
+      buffer.appendByte((byte) ((i & 0x7F) | 0x80));
+      i >>>= 7;
+    }
+    buffer.appendByte((byte) i);
+  }
+
+  static void writeVarLong(Buffer buffer, long l) {
+    while ((l & ~0x7FL) != 0) {
+      buffer.appendByte((byte) ((l & 0x7F) | 0x80));
+      l >>>= 7;
+    }
+    buffer.appendByte((byte) l);
+  }
+}
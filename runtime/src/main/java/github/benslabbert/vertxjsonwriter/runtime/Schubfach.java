@@ -0,0 +1,398 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.runtime;
+
+import java.math.BigInteger;
+
+/// The shortest decimal that reads back as the same `double` or `float`, written straight into a
+/// byte array with Raffaello Giulietti's Schubfach algorithm.
+///
+/// The layout is the one of `Double.toString` and `Float.toString`, plain between `1.0E-3` and
+/// `1.0E7` and computerized scientific notation outside of it. Since JDK 19 they use the same
+/// algorithm and the output is identical, older JDKs sometimes print a digit more than needed.
+///
+/// See "The Schubfach way to render doubles", R. Giulietti, and `jdk.internal.math.DoubleToDecimal`
+/// which this follows.
+final class Schubfach {
+
+  /// `-2.2250738585072014E-308`
+  static final int MAX_DOUBLE_LENGTH = 24;
+
+  /// `-1.17549435E-38`
+  static final int MAX_FLOAT_LENGTH = 15;
+
+  private static final int DOUBLE_P = 53;
+  private static final int DOUBLE_Q_MIN = -1074;
+  private static final long DOUBLE_C_MIN = 1L << (DOUBLE_P - 1);
+  private static final long DOUBLE_C_TINY = 3;
+  private static final int DOUBLE_BQ_MASK = (1 << 11) - 1;
+  private static final long DOUBLE_T_MASK = DOUBLE_C_MIN - 1;
+  private static final int DOUBLE_H = 17;
+
+  private static final int FLOAT_P = 24;
+  private static final int FLOAT_Q_MIN = -149;
+  private static final int FLOAT_C_MIN = 1 << (FLOAT_P - 1);
+  private static final int FLOAT_C_TINY = 8;
+  private static final int FLOAT_BQ_MASK = (1 << 8) - 1;
+  private static final int FLOAT_T_MASK = FLOAT_C_MIN - 1;
+  private static final int FLOAT_H = 9;
+
+  private static final long MASK_63 = (1L << 63) - 1;
+  private static final long MASK_32 = (1L << 32) - 1;
+  private static final int MASK_28 = (1 << 28) - 1;
+
+  /// the decimal exponents with an entry in [#G], enough for all doubles and floats
+  private static final int K_MIN = -324;
+  private static final int K_MAX = 292;
+
+  private static final long[] POW10 = pow10();
+
+  /// `g1` and `g0` for each `k`, the upper and lower 63 bits of `floor(10^-k 2^-r) + 1` with `r`
+  /// chosen so the value has 126 bits
+  private static final long[] G = g();
+
+  private Schubfach() {}
+
+  /// writes the finite `v` at `pos`, returns the end
+  static int write(double v, byte[] bytes, int pos) {
+    long bits = Double.doubleToRawLongBits(v);
+    if (bits < 0) {
+      bytes[pos++] = '-';
+    }
+
+    long t = bits & DOUBLE_T_MASK;
+    int bq = (int) (bits >>> (DOUBLE_P - 1)) & DOUBLE_BQ_MASK;
+    if (bq != 0) {
+      int mq = -DOUBLE_Q_MIN + 1 - bq;
+      long c = DOUBLE_C_MIN | t;
+      // an integer below 2^53 is already its shortest decimal
+      if (0 < mq && mq < DOUBLE_P) {
+        long f = c >> mq;
+        if (f << mq == c) {
+          return toChars(bytes, pos, f, 0);
+        }
+      }
+      return toDecimal(bytes, pos, -mq, c, 0);
+    }
+    if (t != 0) {
+      // subnormal
+      return t < DOUBLE_C_TINY
+          ? toDecimal(bytes, pos, DOUBLE_Q_MIN, 10 * t, -1)
+          : toDecimal(bytes, pos, DOUBLE_Q_MIN, t, 0);
+    }
+    return zero(bytes, pos);
+  }
+
+  /// writes the finite `v` at `pos`, returns the end
+  static int write(float v, byte[] bytes, int pos) {
+    int bits = Float.floatToRawIntBits(v);
+    if (bits < 0) {
+      bytes[pos++] = '-';
+    }
+
+    int t = bits & FLOAT_T_MASK;
+    int bq = (bits >>> (FLOAT_P - 1)) & FLOAT_BQ_MASK;
+    if (bq != 0) {
+      int mq = -FLOAT_Q_MIN + 1 - bq;
+      int c = FLOAT_C_MIN | t;
+      if (0 < mq && mq < FLOAT_P) {
+        int f = c >> mq;
+        if (f << mq == c) {
+          return toChars(bytes, pos, f, 0);
+        }
+      }
+      return toDecimal(bytes, pos, -mq, c, 0);
+    }
+    if (t != 0) {
+      return t < FLOAT_C_TINY
+          ? toDecimal(bytes, pos, FLOAT_Q_MIN, 10 * t, -1)
+          : toDecimal(bytes, pos, FLOAT_Q_MIN, t, 0);
+    }
+    return zero(bytes, pos);
+  }
+
+  private static int zero(byte[] bytes, int pos) {
+    bytes[pos++] = '0';
+    bytes[pos++] = '.';
+    bytes[pos++] = '0';
+    return pos;
+  }
+
+  /// `c 2^q` rounded to the shortest decimal in its rounding interval, the one closest to it on a
+  /// tie
+  private static int toDecimal(byte[] bytes, int pos, int q, long c, int dk) {
+    int out = (int) c & 0x1;
+    long cb = c << 2;
+    long cbr = cb + 2;
+    long cbl;
+    int k;
+    if (c != DOUBLE_C_MIN || q == DOUBLE_Q_MIN) {
+      cbl = cb - 2;
+      k = flog10pow2(q);
+    } else {
+      // the interval is asymmetric at a power of two
+      cbl = cb - 1;
+      k = flog10threeQuartersPow2(q);
+    }
+    int h = q + flog2pow10(-k) + 2;
+
+    long g1 = G[(k - K_MIN) << 1];
+    long g0 = G[(k - K_MIN) << 1 | 1];
+    long vb = rop(g1, g0, cb << h);
+    long vbl = rop(g1, g0, cbl << h);
+    long vbr = rop(g1, g0, cbr << h);
+
+    long s = vb >> 2;
+    if (s >= 100) {
+      // one digit less if a multiple of 10 is in the interval
+      long sp10 = 10 * Math.multiplyHigh(s, 115_292_150_460_684_698L << 4);
+      long tp10 = sp10 + 10;
+      boolean upin = vbl + out <= sp10 << 2;
+      boolean wpin = (tp10 << 2) + out <= vbr;
+      if (upin != wpin) {
+        return toChars(bytes, pos, upin ? sp10 : tp10, k);
+      }
+    }
+
+    long t = s + 1;
+    boolean uin = vbl + out <= s << 2;
+    boolean win = (t << 2) + out <= vbr;
+    if (uin != win) {
+      return toChars(bytes, pos, uin ? s : t, k + dk);
+    }
+    long cmp = vb - (s + t << 1);
+    return toChars(bytes, pos, cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk);
+  }
+
+  private static int toDecimal(byte[] bytes, int pos, int q, int c, int dk) {
+    int out = c & 0x1;
+    long cb = (long) c << 2;
+    long cbr = cb + 2;
+    long cbl;
+    int k;
+    if (c != FLOAT_C_MIN || q == FLOAT_Q_MIN) {
+      cbl = cb - 2;
+      k = flog10pow2(q);
+    } else {
+      cbl = cb - 1;
+      k = flog10threeQuartersPow2(q);
+    }
+    int h = q + flog2pow10(-k) + 33;
+
+    long g = G[(k - K_MIN) << 1] + 1;
+    int vb = rop(g, cb << h);
+    int vbl = rop(g, cbl << h);
+    int vbr = rop(g, cbr << h);
+
+    int s = vb >> 2;
+    if (s >= 100) {
+      int sp10 = 10 * (int) (s * 1_717_986_919L >>> 34);
+      int tp10 = sp10 + 10;
+      boolean upin = vbl + out <= sp10 << 2;
+      boolean wpin = (tp10 << 2) + out <= vbr;
+      if (upin != wpin) {
+        return toChars(bytes, pos, upin ? sp10 : tp10, k);
+      }
+    }
+
+    int t = s + 1;
+    boolean uin = vbl + out <= s << 2;
+    boolean win = (t << 2) + out <= vbr;
+    if (uin != win) {
+      return toChars(bytes, pos, uin ? s : t, k + dk);
+    }
+    int cmp = vb - (s + t << 1);
+    return toChars(bytes, pos, cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk);
+  }
+
+  /// `g cp 2^-127`, rounded to odd
+  private static long rop(long g1, long g0, long cp) {
+    long x1 = Math.multiplyHigh(g0, cp);
+    long y0 = g1 * cp;
+    long y1 = Math.multiplyHigh(g1, cp);
+    long z = (y0 >>> 1) + x1;
+    long vbp = y1 + (z >>> 63);
+    return vbp | (z & MASK_63) + MASK_63 >>> 63;
+  }
+
+  private static int rop(long g, long cp) {
+    long x1 = Math.multiplyHigh(g, cp);
+    long vbp = x1 >>> 31;
+    return (int) (vbp | (x1 & MASK_32) + MASK_32 >>> 32);
+  }
+
+  /// writes `f 10^e`
+  private static int toChars(byte[] bytes, int pos, long f, int e) {
+    // scale f to exactly 17 digits, 10^16 <= f < 10^17, so that f 10^e = 0.f 10^(e + len)
+    int len = flog10pow2(Long.SIZE - Long.numberOfLeadingZeros(f));
+    if (f >= POW10[len]) {
+      len++;
+    }
+    f *= POW10[DOUBLE_H - len];
+    e += len;
+
+    // the first digit, the next 8 and the last 8, so the digits can be extracted with ints
+    long hm = Math.multiplyHigh(f, 193_428_131_138_340_668L) >>> 20;
+    int l = (int) (f - 100_000_000L * hm);
+    int h = (int) (hm * 1_441_151_881L >>> 57);
+    int m = (int) (hm - 100_000_000 * h);
+    return toChars(bytes, pos, h, m, l, e);
+  }
+
+  private static int toChars(byte[] bytes, int pos, int f, int e) {
+    // 9 digits, 10^8 <= f < 10^9
+    int len = flog10pow2(Integer.SIZE - Integer.numberOfLeadingZeros(f));
+    if (f >= POW10[len]) {
+      len++;
+    }
+    f *= (int) POW10[FLOAT_H - len];
+    e += len;
+
+    int h = (int) (f * 1_441_151_881L >>> 57);
+    int m = f - 100_000_000 * h;
+    return toChars(bytes, pos, h, m, 0, e);
+  }
+
+  /// writes `0.hml 10^e` for the digit `h` and up to 8 digits each in `m` and `l`
+  private static int toChars(byte[] bytes, int pos, int h, int m, int l, int e) {
+    if (0 < e && e <= 7) {
+      // plain without leading zeroes
+      bytes[pos++] = digit(h);
+      int y = y(m);
+      int i = 1;
+      for (; i < e; i++) {
+        int t = 10 * y;
+        bytes[pos++] = digit(t >>> 28);
+        y = t & MASK_28;
+      }
+      bytes[pos++] = '.';
+      for (; i <= 8; i++) {
+        int t = 10 * y;
+        bytes[pos++] = digit(t >>> 28);
+        y = t & MASK_28;
+      }
+      return lowDigits(bytes, pos, l);
+    }
+
+    if (-3 < e && e <= 0) {
+      // plain with leading zeroes
+      bytes[pos++] = '0';
+      bytes[pos++] = '.';
+      for (; e < 0; e++) {
+        bytes[pos++] = '0';
+      }
+      bytes[pos++] = digit(h);
+      pos = append8Digits(bytes, pos, m);
+      return lowDigits(bytes, pos, l);
+    }
+
+    bytes[pos++] = digit(h);
+    bytes[pos++] = '.';
+    pos = append8Digits(bytes, pos, m);
+    pos = lowDigits(bytes, pos, l);
+    return exponent(bytes, pos, e - 1);
+  }
+
+  private static int lowDigits(byte[] bytes, int pos, int l) {
+    if (l != 0) {
+      pos = append8Digits(bytes, pos, l);
+    }
+    // drop the trailing zeroes, but not the one right after the '.'
+    while (bytes[pos - 1] == '0') {
+      pos--;
+    }
+    if (bytes[pos - 1] == '.') {
+      pos++;
+    }
+    return pos;
+  }
+
+  /// left to right with a fixed point fraction of 28 bits instead of a division per digit
+  private static int append8Digits(byte[] bytes, int pos, int m) {
+    int y = y(m);
+    for (int i = 0; i < 8; i++) {
+      int t = 10 * y;
+      bytes[pos++] = digit(t >>> 28);
+      y = t & MASK_28;
+    }
+    return pos;
+  }
+
+  /// `floor((a + 1) 2^28 / 10^8) - 1`
+  private static int y(int a) {
+    return (int) (Math.multiplyHigh((long) (a + 1) << 28, 193_428_131_138_340_668L) >>> 20) - 1;
+  }
+
+  private static int exponent(byte[] bytes, int pos, int e) {
+    bytes[pos++] = 'E';
+    if (e < 0) {
+      bytes[pos++] = '-';
+      e = -e;
+    }
+    if (e < 10) {
+      bytes[pos++] = digit(e);
+      return pos;
+    }
+    int d;
+    if (e >= 100) {
+      // e / 100
+      d = e * 1_311 >>> 17;
+      bytes[pos++] = digit(d);
+      e -= 100 * d;
+    }
+    // e / 10
+    d = e * 103 >>> 10;
+    bytes[pos++] = digit(d);
+    bytes[pos++] = digit(e - 10 * d);
+    return pos;
+  }
+
+  private static byte digit(int d) {
+    return (byte) ('0' + d);
+  }
+
+  /// `floor(q log10(2))`
+  private static int flog10pow2(int q) {
+    return (int) (q * 661_971_961_083L >> 41);
+  }
+
+  /// `floor(q log10(2) + log10(3/4))`
+  private static int flog10threeQuartersPow2(int q) {
+    return (int) (q * 661_971_961_083L + -274_743_187_321L >> 41);
+  }
+
+  /// `floor(e log2(10))`
+  private static int flog2pow10(int e) {
+    return (int) (e * 913_124_641_741L >> 38);
+  }
+
+  private static long[] pow10() {
+    long[] pow10 = new long[DOUBLE_H + 1];
+    pow10[0] = 1;
+    for (int i = 1; i < pow10.length; i++) {
+      pow10[i] = pow10[i - 1] * 10;
+    }
+    return pow10;
+  }
+
+  private static long[] g() {
+    long[] g = new long[(K_MAX - K_MIN + 1) << 1];
+    // 10^-k = beta 2^r with 2^125 <= beta < 2^126, g = floor(beta) + 1
+    BigInteger pow10 = BigInteger.ONE;
+    for (int k = 0; k >= K_MIN; k--) {
+      g(g, k, pow10.shiftRight(flog2pow10(-k) - 125));
+      pow10 = pow10.multiply(BigInteger.TEN);
+    }
+    pow10 = BigInteger.TEN;
+    for (int k = 1; k <= K_MAX; k++) {
+      g(g, k, BigInteger.ONE.shiftLeft(125 - flog2pow10(-k)).divide(pow10));
+      pow10 = pow10.multiply(BigInteger.TEN);
+    }
+    return g;
+  }
+
+  private static void g(long[] g, int k, BigInteger beta) {
+    BigInteger value = beta.add(BigInteger.ONE);
+    g[(k - K_MIN) << 1] = value.shiftRight(63).longValueExact();
+    g[(k - K_MIN) << 1 | 1] = value.longValue() & MASK_63;
+  }
+}
@@ -0,0 +1,66 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.runtime;
+
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/// Per thread scratch space for the writers, so formatting a number, a date or a chunk of base64
+/// does not allocate on every call.
+///
+/// The array grows by doubling up to [#MAX_RETAINED], a larger request gets an array of its own so
+/// a single huge value is not kept alive by the thread. The array is only valid until the next
+/// call on the same thread, a writer must not call another writer while it holds it.
+final class Scratch {
+
+  private static final int INITIAL = 64;
+  private static final int MAX_RETAINED = 64 * 1024;
+
+  private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+  private byte[] bytes = new byte[INITIAL];
+  private char[] chars = new char[INITIAL];
+  private final CharsetEncoder utf8 =
+      StandardCharsets.UTF_8
+          .newEncoder()
+          .onMalformedInput(CodingErrorAction.REPLACE)
+          .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+  private Scratch() {}
+
+  /// at least `length` bytes with undefined content
+  static byte[] bytes(int length) {
+    Scratch scratch = SCRATCH.get();
+    if (length <= scratch.bytes.length) {
+      return scratch.bytes;
+    }
+    if (length > MAX_RETAINED) {
+      return new byte[length];
+    }
+    scratch.bytes = new byte[grow(scratch.bytes.length, length)];
+    return scratch.bytes;
+  }
+
+  /// at least `length` chars with undefined content, independent of [#bytes]
+  static char[] chars(int length) {
+    Scratch scratch = SCRATCH.get();
+    if (length <= scratch.chars.length) {
+      return scratch.chars;
+    }
+    if (length > MAX_RETAINED) {
+      return new char[length];
+    }
+    scratch.chars = new char[grow(scratch.chars.length, length)];
+    return scratch.chars;
+  }
+
+  /// the UTF-8 encoder of this thread, an unpaired surrogate becomes `?` like in
+  /// `String#getBytes(UTF_8)`
+  static CharsetEncoder utf8() {
+    return SCRATCH.get().utf8;
+  }
+
+  private static int grow(int current, int length) {
+    return Math.min(MAX_RETAINED, Math.max(length, current * 2));
+  }
+}
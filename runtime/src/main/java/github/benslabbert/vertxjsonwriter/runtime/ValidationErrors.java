@@ -0,0 +1,64 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.runtime;
+
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/// Collects the constraint violations found by the generated `{ORIGINAL_CLASS_NAME}Json.validate`
+/// and validating `fromBuffer` methods.
+///
+/// Nothing is allocated while the input is valid.
+public final class ValidationErrors {
+
+  /// `location` is a json pointer to the invalid value, in the same form as
+  /// `OutputUnit.getInstanceLocation()`, for example `#/tags/1`
+  public record Error(String location, String message) {}
+
+  private final boolean failFast;
+  private @Nullable List<Error> errors;
+
+  public ValidationErrors() {
+    this(false);
+  }
+
+  /// with `failFast` the first error unwinds the decoder started by [JsonInput], so the rest of
+  /// the input is not parsed
+  ValidationErrors(boolean failFast) {
+    this.failFast = failFast;
+  }
+
+  public void add(String location, String message) {
+    if (null == errors) {
+      errors = new ArrayList<>(4);
+    }
+    errors.add(new Error(location, message));
+    if (failFast) {
+      throw FailFast.INSTANCE;
+    }
+  }
+
+  public boolean isValid() {
+    return null == errors;
+  }
+
+  public List<Error> errors() {
+    return null == errors ? List.of() : Collections.unmodifiableList(errors);
+  }
+
+  @Override
+  public String toString() {
+    return errors().toString();
+  }
+
+  /// unwinds the decoder, the error has already been recorded so no stack trace is needed
+  static final class FailFast extends RuntimeException {
+
+    private static final FailFast INSTANCE = new FailFast();
+
+    private FailFast() {
+      super(null, null, false, false);
+    }
+  }
+}
@@ -0,0 +1,165 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.core.net.NetServer;
+import io.vertx.core.streams.WriteStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+class DirectBuffersTest {
+
+  @Test
+  void wrapAppendsToTheByteBuf() {
+    // Arrange
+    ByteBuf byteBuf = PooledByteBufAllocator.DEFAULT.directBuffer(2);
+
+    try {
+      // Act
+      JsonOutput.writeString(DirectBuffers.wrap(byteBuf), "grows past the initial capacity");
+
+      // Assert
+      assertThat(byteBuf.toString(StandardCharsets.UTF_8))
+          .isEqualTo("\"grows past the initial capacity\"");
+    } finally {
+      byteBuf.release();
+    }
+  }
+
+  @Test
+  void writeToByteBuffer() {
+    // Arrange
+    ByteBuffer heap = ByteBuffer.allocate(16).position(2);
+    ByteBuffer direct = ByteBuffer.allocateDirect(4);
+
+    // Act
+    DirectBuffers.write(heap, "é", JsonOutput::writeString);
+    BufferOverflowException overflow =
+        assertThrows(
+            BufferOverflowException.class,
+            () -> DirectBuffers.write(direct, "too long", JsonOutput::writeString));
+
+    // Assert
+    assertThat(heap.position()).isEqualTo(6);
+    assertThat(new String(heap.array(), 2, 4, StandardCharsets.UTF_8)).isEqualTo("\"é\"");
+    assertThat(overflow).hasCauseInstanceOf(IndexOutOfBoundsException.class);
+    assertThat(direct.position()).isZero();
+  }
+
+  @Test
+  void releasedWhenTheStreamThrows() {
+    // Arrange
+    ThrowingStream stream = new ThrowingStream();
+
+    // Act
+    assertThrows(
+        IllegalStateException.class,
+        () -> DirectBuffers.write(stream, "value", 7, JsonOutput::writeString));
+    ByteBuf written = stream.byteBuf;
+    assertThrows(
+        IllegalStateException.class,
+        () -> DirectBuffers.end(stream, "value", 7, JsonOutput::writeString));
+    ByteBuf ended = stream.byteBuf;
+
+    // Assert
+    assertThat(written.refCnt()).isZero();
+    assertThat(ended.refCnt()).isZero();
+  }
+
+  @Test
+  void endSocket() {
+    // Arrange
+    Vertx vertx = Vertx.vertx();
+    CompletableFuture<String> received = new CompletableFuture<>();
+
+    try {
+      NetServer server =
+          vertx
+              .createNetServer()
+              .connectHandler(
+                  socket ->
+                      socket.handler(
+                          request ->
+                              DirectBuffers.end(
+                                  socket,
+                                  "value",
+                                  JsonSize.ofString("value"),
+                                  JsonOutput::writeString)))
+              .listen(0)
+              .await();
+
+      // Act
+      vertx.runOnContext(
+          v ->
+              vertx
+                  .createNetClient()
+                  .connect(server.actualPort(), "localhost")
+                  .onSuccess(
+                      socket -> {
+                        Buffer body = Buffer.buffer();
+                        socket.handler(body::appendBuffer);
+                        socket.endHandler(end -> received.complete(body.toString()));
+                        socket.write("request");
+                      }));
+
+      // Assert
+      assertThat(received.join()).isEqualTo("\"value\"");
+    } finally {
+      vertx.close().await();
+    }
+  }
+
+  /// fails the way an already ended response does
+  private static final class ThrowingStream implements WriteStream<Buffer> {
+
+    private ByteBuf byteBuf;
+
+    @Override
+    public Future<Void> write(Buffer data) {
+      byteBuf = ((BufferInternal) data).getByteBuf().unwrap();
+      throw new IllegalStateException("Response has already been written");
+    }
+
+    @Override
+    public Future<Void> end(Buffer data) {
+      return write(data);
+    }
+
+    @Override
+    public Future<Void> end() {
+      return Future.succeededFuture();
+    }
+
+    @Override
+    public WriteStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+      return this;
+    }
+
+    @Override
+    public WriteStream<Buffer> setWriteQueueMaxSize(int maxSize) {
+      return this;
+    }
+
+    @Override
+    public boolean writeQueueFull() {
+      return false;
+    }
+
+    @Override
+    public WriteStream<Buffer> drainHandler(Handler<Void> handler) {
+      return this;
+    }
+  }
+}
@@ -0,0 +1,106 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class JacksonOutputTest {
+
+  private final JsonFactory factory = new JsonFactory();
+
+  @Test
+  void sameAsJsonOutput() {
+    // Arrange
+    List<Integer> values = Arrays.asList(1, null, -3);
+    OffsetDateTime dateTime = OffsetDateTime.of(2024, 2, 29, 13, 14, 15, 0, ZoneOffset.UTC);
+    Buffer expected = Buffer.buffer();
+    JsonOutput.writeOffsetDateTime(expected, dateTime);
+
+    // Act
+    byte[] list =
+        JacksonOutput.write(
+            factory, values, (g, v) -> JacksonOutput.writeIterable(g, v, JacksonOutput::writeInt));
+    byte[] date = JacksonOutput.write(factory, dateTime, JacksonOutput::writeOffsetDateTime);
+
+    // Assert
+    assertThat(new String(list, StandardCharsets.UTF_8)).isEqualTo("[1,null,-3]");
+    assertThat(new String(date, StandardCharsets.UTF_8)).isEqualTo(expected.toString());
+  }
+
+  @Test
+  void roundTrip() {
+    // Arrange
+    byte[] bytes =
+        JacksonOutput.write(
+            factory,
+            List.of("a", "b"),
+            (g, v) -> JacksonOutput.writeIterable(g, v, JacksonOutput::writeString));
+
+    // Act
+    List<String> list =
+        JsonInput.read(factory, bytes, p -> JsonInput.readList(p, JsonInput::readString));
+
+    // Assert
+    assertThat(list).containsExactly("a", "b");
+    assertThat(JsonInput.read(factory, "null".getBytes(), JsonInput::readString)).isNull();
+    assertThrows(
+        DecodeException.class,
+        () -> JsonInput.read(factory, "1 2".getBytes(), JsonInput::readInteger));
+  }
+
+  @Test
+  void cborRoundTrip() {
+    // Arrange
+    CBORFactory cbor = new CBORFactory();
+    byte[] payload = {0, 1, (byte) 0xff};
+    double[] doubles = {1.5, -2};
+
+    // Act
+    byte[] bytes =
+        JacksonOutput.write(
+            cbor,
+            payload,
+            (g, v) -> {
+              // the generated write starts objects with their field count
+              g.writeStartObject(v, 2);
+              g.writeFieldName("bytes");
+              JacksonOutput.writeBinary(g, v);
+              g.writeFieldName("doubles");
+              JacksonOutput.writeDoubleArray(g, doubles);
+              g.writeEndObject();
+            });
+    List<Object> read =
+        JsonInput.read(
+            cbor,
+            bytes,
+            p -> {
+              JsonInput.expect(p, JsonToken.START_OBJECT);
+              p.nextToken();
+              p.nextToken();
+              byte[] b = JsonInput.readBinary(p);
+              p.nextToken();
+              p.nextToken();
+              double[] d = JsonInput.readDoubleArray(p);
+              p.nextToken();
+              return List.of(b, d);
+            });
+
+    // Assert
+    // a definite length map of 2 and a native byte string of 3
+    assertThat(bytes[0]).isEqualTo((byte) 0xa2);
+    assertThat(bytes).containsSequence((byte) 0x43, (byte) 0, (byte) 1, (byte) 0xff);
+    assertThat(read).containsExactly(payload, doubles);
+  }
+}
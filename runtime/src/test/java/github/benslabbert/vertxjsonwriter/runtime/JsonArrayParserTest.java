@@ -0,0 +1,81 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonArray;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class JsonArrayParserTest {
+
+  @Test
+  void elementsSplitAcrossChunks() {
+    // Arrange
+    List<List<String>> elements = new ArrayList<>();
+    JsonArrayParser<List<String>> parser = parser(elements);
+    byte[] json =
+        " [[\"a\",\"]\"], null ,[\"é\"],[],[\"[\",\"\\\"\"]] ".getBytes(StandardCharsets.UTF_8);
+
+    // Act
+    for (byte b : json) {
+      parser.handle(Buffer.buffer(new byte[] {b}));
+    }
+    parser.end();
+
+    // Assert
+    assertThat(elements)
+        .containsExactly(List.of("a", "]"), List.of("é"), List.of(), List.of("[", "\""));
+  }
+
+  @Test
+  void largeElementInSmallChunks() {
+    // Arrange
+    List<List<String>> elements = new ArrayList<>();
+    JsonArrayParser<List<String>> parser = parser(elements);
+    List<String> large = Collections.nCopies(50_000, "value");
+    byte[] json =
+        ("[[\"a\"]," + new JsonArray(large).encode() + ",[\"b\"]]")
+            .getBytes(StandardCharsets.UTF_8);
+
+    // Act
+    for (int i = 0; i < json.length; i += 7) {
+      parser.handle(Buffer.buffer().appendBytes(json, i, Math.min(7, json.length - i)));
+    }
+    parser.end();
+
+    // Assert
+    assertThat(elements).containsExactly(List.of("a"), large, List.of("b"));
+  }
+
+  @Test
+  void malformed() {
+    // Arrange
+    JsonArrayParser<List<String>> notArray = parser(new ArrayList<>());
+    JsonArrayParser<List<String>> trailing = parser(new ArrayList<>());
+    JsonArrayParser<List<String>> incomplete = parser(new ArrayList<>());
+
+    // Act
+    DecodeException notArrayException =
+        assertThrows(DecodeException.class, () -> notArray.handle(Buffer.buffer("{}")));
+    DecodeException trailingException =
+        assertThrows(DecodeException.class, () -> trailing.handle(Buffer.buffer("[] []")));
+    incomplete.handle(Buffer.buffer("[[\"a\"]"));
+    DecodeException incompleteException = assertThrows(DecodeException.class, incomplete::end);
+
+    // Assert
+    assertThat(notArrayException).isNotNull();
+    assertThat(trailingException.getMessage()).isEqualTo("Unexpected trailing token");
+    assertThat(incompleteException).isNotNull();
+  }
+
+  private static JsonArrayParser<List<String>> parser(List<List<String>> elements) {
+    return new JsonArrayParser<>(p -> JsonInput.readList(p, JsonInput::readString), elements::add);
+  }
+}
@@ -0,0 +1,83 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import org.junit.jupiter.api.Test;
+
+class JsonBuffersTest {
+
+  @Test
+  void releasedBufferIsReusedEmpty() {
+    // Arrange
+    Buffer first = JsonBuffers.acquire();
+    first.appendString("first");
+
+    // Act
+    JsonBuffers.release(first);
+    Buffer second = JsonBuffers.acquire();
+    second.appendString("2");
+
+    // Assert
+    assertThat(second).isSameAs(first);
+    assertThat(second.toString()).isEqualTo("2");
+  }
+
+  @Test
+  void largeBufferIsNotPooled() {
+    // Arrange
+    Buffer large = JsonBuffers.acquire();
+    large.appendBytes(new byte[JsonBuffers.MAX_RETAINED_CAPACITY + 1]);
+
+    // Act
+    JsonBuffers.release(large);
+    Buffer next = JsonBuffers.acquire();
+
+    // Assert
+    assertThat(next).isNotSameAs(large);
+    assertThat(next.length()).isZero();
+  }
+
+  @Test
+  void onlyBuffersFromAcquireArePooled() {
+    // Arrange
+    Buffer acquired = JsonBuffers.acquire();
+    acquired.appendString("acquired");
+    Buffer slice = acquired.slice(0, 3);
+    Buffer plain = Buffer.buffer("plain");
+    ByteBuf byteBuf = Unpooled.buffer();
+    Buffer wrapped = DirectBuffers.wrap(byteBuf);
+
+    // Act
+    JsonBuffers.release(slice);
+    JsonBuffers.release(plain);
+    JsonBuffers.release(wrapped);
+    Buffer next = JsonBuffers.acquire();
+
+    // Assert
+    assertThat(next).isNotSameAs(acquired).isNotSameAs(slice).isNotSameAs(plain);
+    assertThat(next).isNotSameAs(wrapped);
+    assertThat(acquired.toString()).isEqualTo("acquired");
+    assertThat(slice.toString()).isEqualTo("acq");
+    assertThat(plain.toString()).isEqualTo("plain");
+  }
+
+  @Test
+  void releasedTwiceIsPooledOnce() {
+    // Arrange
+    Buffer buffer = JsonBuffers.acquire();
+
+    // Act
+    JsonBuffers.release(buffer);
+    JsonBuffers.release(buffer);
+    Buffer first = JsonBuffers.acquire();
+    Buffer second = JsonBuffers.acquire();
+
+    // Assert
+    assertThat(first).isSameAs(buffer);
+    assertThat(second).isNotSameAs(buffer);
+  }
+}
@@ -0,0 +1,217 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import org.junit.jupiter.api.Test;
+
+class JsonInputTest {
+
+  @Test
+  void readScalars() {
+    assertThat(JsonInput.read(Buffer.buffer("\"a\\\"b\""), JsonInput::readString))
+        .isEqualTo("a\"b");
+    assertThat(JsonInput.read(Buffer.buffer("12"), JsonInput::readInteger)).isEqualTo(12);
+    assertThat(JsonInput.read(Buffer.buffer("12"), JsonInput::readLong)).isEqualTo(12L);
+    assertThat(JsonInput.read(Buffer.buffer("1.5"), JsonInput::readDouble)).isEqualTo(1.5d);
+    assertThat(JsonInput.read(Buffer.buffer("-2.2250738585072014E-308"), JsonInput::readDouble))
+        .isEqualTo(-Double.MIN_NORMAL);
+    assertThat(JsonInput.read(Buffer.buffer("1.17549435E-38"), JsonInput::readFloat))
+        .isEqualTo(Float.MIN_NORMAL);
+    assertThat(JsonInput.read(Buffer.buffer("true"), JsonInput::readBoolean)).isTrue();
+    assertThat(JsonInput.read(Buffer.buffer("\"z\""), JsonInput::readCharacter)).isEqualTo('z');
+    assertThat(JsonInput.read(Buffer.buffer("null"), JsonInput::readString)).isNull();
+  }
+
+  @Test
+  void readTimes() {
+    assertThat(JsonInput.read(Buffer.buffer("\"2024-02-29\""), JsonInput::readLocalDate))
+        .isEqualTo(LocalDate.of(2024, 2, 29));
+    assertThat(
+            JsonInput.read(
+                Buffer.buffer("\"2024-02-29T13:14:15+02:00\""), JsonInput::readOffsetDateTime))
+        .isEqualTo(OffsetDateTime.of(2024, 2, 29, 13, 14, 15, 0, ZoneOffset.ofHours(2)));
+  }
+
+  @Test
+  void readCollectionsSkipsNulls() {
+    // Act
+    List<String> list =
+        JsonInput.read(
+            Buffer.buffer("[\"a\",null,\"b\"]"), p -> JsonInput.readList(p, JsonInput::readString));
+    Set<Integer> set =
+        JsonInput.read(
+            Buffer.buffer("[1,2,null,2]"), p -> JsonInput.readSet(p, JsonInput::readInteger));
+
+    // Assert
+    assertThat(list).containsExactly("a", "b");
+    assertThat(set).containsExactlyInAnyOrder(1, 2);
+    assertThrows(UnsupportedOperationException.class, () -> list.add("c"));
+    assertThrows(UnsupportedOperationException.class, () -> set.add(3));
+  }
+
+  @Test
+  void requireFields() {
+    // Arrange
+    JsonObject json = new JsonObject().put("a", 1).putNull("b");
+
+    // Act
+    JsonInput.requireFields(json, new String[] {"a", "b"});
+    DecodeException exception =
+        assertThrows(
+            DecodeException.class,
+            () -> JsonInput.requireFields(json, new String[] {"a", "b", "c"}));
+
+    // Assert
+    assertThat(exception.getMessage()).isEqualTo("missing required field 'c'");
+  }
+
+  @Test
+  void wrongTokenType() {
+    // Act & Assert
+    DecodeException exception =
+        assertThrows(
+            DecodeException.class,
+            () -> JsonInput.read(Buffer.buffer("\"1\""), JsonInput::readIntValue));
+
+    assertThat(exception.getMessage())
+        .isEqualTo("field 'null': expected number but found VALUE_STRING");
+  }
+
+  @Test
+  void trailingToken() {
+    // Act & Assert
+    assertThrows(
+        DecodeException.class, () -> JsonInput.read(Buffer.buffer("1 2"), JsonInput::readInteger));
+  }
+
+  @Test
+  void readValidating() {
+    // Arrange
+    JsonInput.ValidatingReader<List<Integer>> positive =
+        (parser, path, errors) -> {
+          List<Integer> values = new ArrayList<>();
+          for (int i = 0; null != parser.nextToken() && parser.currentToken().isNumeric(); i++) {
+            int value = parser.getIntValue();
+            if (value < 1) {
+              errors.add(path + "/" + i, JsonValidation.lessThanMinimum(value, 1L));
+            }
+            values.add(value);
+          }
+          return values;
+        };
+
+    // Act
+    DecodeResult<List<Integer>> valid = JsonInput.read(Buffer.buffer("[1,2]"), false, positive);
+    DecodeResult<List<Integer>> all = JsonInput.read(Buffer.buffer("[0,1,-1]"), false, positive);
+    DecodeResult<List<Integer>> first = JsonInput.read(Buffer.buffer("[0,1,-1]"), true, positive);
+
+    // Assert
+    assertThat(valid.isValid()).isTrue();
+    assertThat(valid.value()).containsExactly(1, 2);
+    assertThat(all.value()).isNull();
+    assertThat(all.errors().errors())
+        .extracting(ValidationErrors.Error::location)
+        .containsExactly("#/0", "#/2");
+    assertThat(first.value()).isNull();
+    assertThat(first.errors().errors())
+        .containsExactly(new ValidationErrors.Error("#/0", "0 is less than 1"));
+  }
+
+  @Test
+  void readArrays() {
+    // Arrange
+    ValidationErrors errors = new ValidationErrors(false);
+
+    // Act
+    int[] ints = JsonInput.read(Buffer.buffer("[1,-2,3]"), JsonInput::readIntArray);
+    byte[] bytes = JsonInput.read(Buffer.buffer("\"AQID_w\""), JsonInput::readBinary);
+    long[] invalid =
+        JsonInput.read(
+            Buffer.buffer("[1,\"2\",3.5]"), p -> JsonInput.readLongArray(p, "#/longs", errors));
+
+    // Assert
+    assertThat(ints).containsExactly(1, -2, 3);
+    assertThat(bytes).containsExactly(1, 2, 3, -1);
+    assertThat(invalid).hasSize(3);
+    assertThat(errors.errors())
+        .extracting(ValidationErrors.Error::location)
+        .containsExactly("#/longs/1", "#/longs/2");
+  }
+
+  @Test
+  void readEnum() {
+    // Arrange
+    Function<String, DayOfWeek> constants = name -> name.equals("MONDAY") ? DayOfWeek.MONDAY : null;
+
+    // Act
+    DayOfWeek monday =
+        JsonInput.read(Buffer.buffer("\"MONDAY\""), p -> JsonInput.readEnum(p, constants));
+    DayOfWeek none = JsonInput.read(Buffer.buffer("null"), p -> JsonInput.readEnum(p, constants));
+    DecodeException exception =
+        assertThrows(
+            DecodeException.class,
+            () ->
+                JsonInput.read(Buffer.buffer("\"monday\""), p -> JsonInput.readEnum(p, constants)));
+
+    // Assert
+    assertThat(monday).isEqualTo(DayOfWeek.MONDAY);
+    assertThat(none).isNull();
+    assertThat(exception.getMessage()).isEqualTo("field 'null': unknown constant 'monday'");
+  }
+
+  @Test
+  void nextFieldInAnyOrder() {
+    // Arrange
+    SerializedString[] names = {new SerializedString("a"), new SerializedString("b")};
+    ToIntFunction<String> index = name -> List.of("a", "b").indexOf(name);
+
+    // Act
+    List<Integer> fields =
+        JsonInput.read(
+            Buffer.buffer("{\"a\":1,\"b\":2,\"c\":3,\"b\":4,\"a\":5}"),
+            p -> {
+              List<Integer> seen = new ArrayList<>();
+              JsonInput.expect(p, JsonToken.START_OBJECT);
+              for (int field = JsonInput.nextField(p, names, 0, index);
+                  JsonInput.END_OBJECT != field;
+                  field = JsonInput.nextField(p, names, field + 1, index)) {
+                p.nextToken();
+                seen.add(field);
+              }
+              return seen;
+            });
+
+    // Assert
+    assertThat(fields).containsExactly(0, 1, JsonInput.UNKNOWN_FIELD, 1, 0);
+  }
+
+  @Test
+  void readArray() {
+    // Act
+    List<Integer> values = JsonInput.readArray(Buffer.buffer("[1,null,3]"), JsonInput::readInteger);
+    DecodeException exception =
+        assertThrows(
+            DecodeException.class,
+            () -> JsonInput.readArray(Buffer.buffer("null"), JsonInput::readInteger));
+
+    // Assert
+    assertThat(values).containsExactly(1, 3);
+    assertThat(exception).isNotNull();
+  }
+}
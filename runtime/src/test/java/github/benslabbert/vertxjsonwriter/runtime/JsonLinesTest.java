@@ -0,0 +1,119 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JsonLinesTest {
+
+  private Vertx vertx;
+  private Context context;
+
+  @BeforeEach
+  void before() {
+    vertx = Vertx.vertx();
+    context = vertx.getOrCreateContext();
+  }
+
+  @AfterEach
+  void after() {
+    vertx.close().await();
+  }
+
+  @Test
+  void roundTrip() throws Exception {
+    // Arrange
+    List<String> values = IntStream.range(0, 10_000).mapToObj(i -> "value \"" + i + "\"").toList();
+
+    // Act
+    List<String> decoded =
+        onContext(
+            () -> {
+              ReadStream<Buffer> lines = JsonLines.encode(context, values, JsonOutput::writeString);
+              return JsonLines.decode(lines, JsonLinesTest::readString)
+                  .collect(Collectors.toList())
+                  .toCompletionStage()
+                  .toCompletableFuture();
+            });
+
+    // Assert
+    assertThat(decoded).isEqualTo(values);
+  }
+
+  @Test
+  void decodeSkipsBlankLines() throws Exception {
+    // Arrange
+    List<String> lines = List.of("\"a\"\r", "", " \t", "\"b\"");
+
+    // Act
+    List<String> decoded =
+        onContext(
+            () -> {
+              ReadStream<Buffer> source =
+                  JsonLines.encode(context, lines, (buffer, line) -> buffer.appendString(line));
+              return JsonLines.decode(source, JsonLinesTest::readString)
+                  .collect(Collectors.toList())
+                  .toCompletionStage()
+                  .toCompletableFuture();
+            });
+
+    // Assert
+    assertThat(decoded).containsExactly("a", "b");
+  }
+
+  @Test
+  void encodeHonoursDemand() throws Exception {
+    // Arrange
+    List<Integer> values = IntStream.range(0, 100_000).boxed().toList();
+    List<Buffer> chunks = new ArrayList<>();
+
+    // Act
+    onContext(
+        () -> {
+          ReadStream<Buffer> stream = JsonLines.encode(context, values, JsonOutput::writeInt);
+          stream.pause().handler(chunks::add).fetch(2);
+          CompletableFuture<Void> done = new CompletableFuture<>();
+          vertx.setTimer(50, id -> done.complete(null));
+          return done;
+        });
+
+    // Assert
+    assertThat(chunks).hasSize(2);
+    assertThat(chunks.get(0).toString()).startsWith("0\n1\n2\n");
+  }
+
+  private static String readString(Buffer line) {
+    return JsonInput.read(line, JsonInput::readString);
+  }
+
+  private <T> T onContext(Supplier<CompletableFuture<T>> action) throws Exception {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    context.runOnContext(
+        v ->
+            action
+                .get()
+                .whenComplete(
+                    (value, e) -> {
+                      if (null != e) {
+                        result.completeExceptionally(e);
+                      } else {
+                        result.complete(value);
+                      }
+                    }));
+    return result.get(10, TimeUnit.SECONDS);
+  }
+}
@@ -0,0 +1,50 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.vertx.core.buffer.Buffer;
+import org.junit.jupiter.api.Test;
+
+class JsonMessageCodecTest {
+
+  private static final class StringCodec extends JsonMessageCodec<String> {
+    StringCodec() {
+      super(
+          String.class,
+          JsonOutput::writeString,
+          buffer -> JsonInput.read(buffer, JsonInput::readString));
+    }
+  }
+
+  @Test
+  void wire() {
+    // Arrange
+    StringCodec codec = new StringCodec();
+    Buffer buffer = Buffer.buffer("header");
+
+    // Act
+    codec.encodeToWire(buffer, "a\"b");
+    buffer.appendString("trailer");
+    String decoded = codec.decodeFromWire(6, buffer);
+
+    // Assert
+    assertThat(decoded).isEqualTo("a\"b");
+    assertThat(buffer.getInt(6)).isEqualTo(6);
+  }
+
+  @Test
+  void local() {
+    // Arrange
+    StringCodec codec = new StringCodec();
+    String value = "value";
+
+    // Act
+    String transformed = codec.transform(value);
+
+    // Assert
+    assertThat(transformed).isSameAs(value);
+    assertThat(codec.name()).isEqualTo("java.lang.String");
+    assertThat(codec.systemCodecID()).isEqualTo((byte) -1);
+  }
+}
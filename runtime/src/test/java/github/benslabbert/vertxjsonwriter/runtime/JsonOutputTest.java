@@ -0,0 +1,332 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.io.schubfach.DoubleToDecimal;
+import com.fasterxml.jackson.core.io.schubfach.FloatToDecimal;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class JsonOutputTest {
+
+  static Stream<Arguments> strings() {
+    return Stream.of(
+        Arguments.of("Empty", ""),
+        Arguments.of("Ascii", "hello world"),
+        Arguments.of("Quotes", "say \"hi\""),
+        Arguments.of("Backslash", "c:\\temp"),
+        Arguments.of("Control Characters", "a\nb\rc\td\be\ff\u0001"),
+        Arguments.of("Two Byte", "ünïcödé"),
+        Arguments.of("Three Byte", "日本語"),
+        Arguments.of("Surrogate Pair", "emoji 😀"),
+        Arguments.of("Many Chunks", "plain \"é\" 日本\n".repeat(1000)),
+        Arguments.of("Surrogate Pair Across Chunks", "x".repeat(2047) + "😀y"),
+        Arguments.of("Low Byte Is Plain", "ŁĂ"),
+        Arguments.of("Low Byte Is A Quote", "Ģ"));
+  }
+
+  @Test
+  void writeStringFindsEachSpecialCharAtEachPosition() {
+    for (char special : new char[] {'"', '\\', '\n', '\u001f', 'é', 'Ł', '日'}) {
+      for (int i = 0; i < 20; i++) {
+        // Arrange
+        String value = "a".repeat(i) + special + "b".repeat(19 - i);
+        Buffer buffer = Buffer.buffer();
+
+        // Act
+        buffer.appendByte((byte) '[');
+        JsonOutput.writeString(buffer, value);
+        buffer.appendByte((byte) ']');
+
+        // Assert
+        assertThat(new JsonArray(buffer).getString(0)).as("%d", i).isEqualTo(value);
+      }
+    }
+  }
+
+  @Test
+  void unpairedSurrogatesAreReplaced() {
+    for (String value : new String[] {"a\uD800b\uDC00", "x\uD800", "x".repeat(2047) + "\uD800y"}) {
+      // Arrange
+      Buffer buffer = Buffer.buffer();
+
+      // Act
+      JsonOutput.writeString(buffer, value);
+
+      // Assert
+      assertThat(buffer.toString())
+          .isEqualTo("\"" + new String(value.getBytes(StandardCharsets.UTF_8)) + "\"");
+      assertThat(JsonSize.ofString(value)).isEqualTo(buffer.length());
+    }
+  }
+
+  @Test
+  void writeUnescaped() {
+    for (String value : new String[] {"", "id-42", "x".repeat(5000)}) {
+      // Arrange
+      Buffer buffer = Buffer.buffer();
+      Buffer escaped = Buffer.buffer();
+
+      // Act
+      JsonOutput.writeUnescaped(buffer, value);
+      JsonOutput.writeString(escaped, value);
+
+      // Assert
+      assertThat(buffer).isEqualTo(escaped);
+    }
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("strings")
+  void writeString(String testName, String value) {
+    // Arrange
+    Buffer buffer = Buffer.buffer();
+
+    // Act
+    buffer.appendByte((byte) '[');
+    JsonOutput.writeString(buffer, value);
+    buffer.appendByte((byte) ']');
+
+    // Assert
+    assertThat(new JsonArray(buffer).getString(0)).isEqualTo(value);
+  }
+
+  @Test
+  void writeNulls() {
+    // Arrange
+    Buffer buffer = Buffer.buffer();
+
+    // Act
+    JsonOutput.writeString(buffer, null);
+    JsonOutput.writeInt(buffer, (Integer) null);
+    JsonOutput.writeLocalDate(buffer, null);
+
+    // Assert
+    assertThat(buffer.toString()).isEqualTo("nullnullnull");
+  }
+
+  @Test
+  void writeNumbers() {
+    // Arrange
+    Buffer buffer = Buffer.buffer();
+
+    // Act
+    buffer.appendByte((byte) '[');
+    JsonOutput.writeInt(buffer, Integer.MIN_VALUE);
+    buffer.appendByte((byte) ',');
+    JsonOutput.writeLong(buffer, Long.MAX_VALUE);
+    buffer.appendByte((byte) ',');
+    JsonOutput.writeDouble(buffer, 1.5d);
+    buffer.appendByte((byte) ',');
+    JsonOutput.writeFloat(buffer, 0.25f);
+    buffer.appendByte((byte) ',');
+    JsonOutput.writeDouble(buffer, Double.NaN);
+    buffer.appendByte((byte) ']');
+
+    // Assert
+    assertThat(buffer.toString()).isEqualTo("[-2147483648,9223372036854775807,1.5,0.25,\"NaN\"]");
+  }
+
+  @Test
+  void writeTimes() {
+    // Arrange
+    Buffer buffer = Buffer.buffer();
+
+    // Act
+    JsonOutput.writeLocalDate(buffer, LocalDate.of(2024, 2, 29));
+    JsonOutput.writeLocalDateTime(buffer, LocalDateTime.of(2024, 2, 29, 13, 14, 15));
+    JsonOutput.writeOffsetDateTime(
+        buffer, OffsetDateTime.of(2024, 2, 29, 13, 14, 15, 0, ZoneOffset.ofHours(2)));
+
+    // Assert
+    assertThat(buffer.toString())
+        .isEqualTo("\"2024-02-29\"\"2024-02-29T13:14:15\"\"2024-02-29T13:14:15+02:00\"");
+  }
+
+  @Test
+  void writeArrays() {
+    // Arrange
+    Buffer buffer = Buffer.buffer();
+    // longer than one chunk and not a multiple of three
+    byte[] bytes = new byte[10_000];
+    new Random(1).nextBytes(bytes);
+
+    // Act
+    JsonOutput.writeIntArray(buffer, new int[] {1, -2});
+    JsonOutput.writeDoubleArray(buffer, new double[] {});
+    JsonOutput.writeLongArray(buffer, null);
+    Buffer binary = Buffer.buffer();
+    JsonOutput.writeBinary(binary, bytes);
+
+    // Assert
+    assertThat(buffer.toString()).isEqualTo("[1,-2][]null");
+    assertThat("{\"b\":" + binary + "}").isEqualTo(new JsonObject().put("b", bytes).encode());
+  }
+
+  @Test
+  void writeEnum() {
+    // Arrange
+    Buffer buffer = Buffer.buffer();
+    byte[][] names = JsonOutput.enumNames(DayOfWeek.values());
+
+    // Act
+    JsonOutput.writeEnum(buffer, DayOfWeek.MONDAY, names);
+    JsonOutput.writeEnum(buffer, null, names);
+    JsonOutput.writeEnum(buffer, DayOfWeek.SUNDAY, names);
+
+    // Assert
+    assertThat(buffer.toString()).isEqualTo("\"MONDAY\"null\"SUNDAY\"");
+  }
+
+  @Test
+  void writeArray() {
+    // Arrange
+    Buffer buffer = Buffer.buffer();
+    Buffer empty = Buffer.buffer();
+
+    // Act
+    JsonOutput.writeArray(buffer, List.of("a", "b"), JsonOutput::writeString);
+    JsonOutput.writeArray(empty, List.<String>of(), JsonOutput::writeString);
+
+    // Assert
+    assertThat(buffer.toString()).isEqualTo("[\"a\",\"b\"]");
+    assertThat(empty.toString()).isEqualTo("[]");
+  }
+
+  @Test
+  void writeLong() {
+    // Arrange
+    Buffer buffer = Buffer.buffer();
+
+    // Act
+    JsonOutput.writeLong(buffer, Long.MIN_VALUE);
+    buffer.appendByte((byte) ',');
+    JsonOutput.writeLong(buffer, Long.MAX_VALUE);
+    buffer.appendByte((byte) ',');
+    JsonOutput.writeInt(buffer, 0);
+    buffer.appendByte((byte) ',');
+    JsonOutput.writeInt(buffer, -120);
+
+    // Assert
+    assertThat(buffer.toString()).isEqualTo("-9223372036854775808,9223372036854775807,0,-120");
+  }
+
+  @Test
+  void writeLongMatchesToString() {
+    // Arrange
+    Random random = new Random(1);
+
+    for (int i = 0; i < 10_000; i++) {
+      // every number of digits
+      long l = random.nextLong() >> random.nextInt(64);
+      Buffer buffer = Buffer.buffer();
+
+      // Act
+      JsonOutput.writeLong(buffer, l);
+
+      // Assert
+      assertThat(buffer.toString()).isEqualTo(Long.toString(l));
+    }
+  }
+
+  static Stream<Arguments> doubles() {
+    return Stream.of(
+        Arguments.of(0.0d, "0.0"),
+        Arguments.of(-0.0d, "-0.0"),
+        Arguments.of(1.0d, "1.0"),
+        Arguments.of(0.1d, "0.1"),
+        Arguments.of(0.001d, "0.001"),
+        Arguments.of(9.99e-4d, "9.99E-4"),
+        Arguments.of(9_999_999.0d, "9999999.0"),
+        Arguments.of(1.0e7d, "1.0E7"),
+        Arguments.of(123.456d, "123.456"),
+        Arguments.of(1.0e23d, "1.0E23"),
+        // longer than needed from Double.toString before JDK 19
+        Arguments.of(2.0e-3d, "0.002"),
+        Arguments.of(Double.MIN_VALUE, "4.9E-324"),
+        Arguments.of(Double.MAX_VALUE, "1.7976931348623157E308"),
+        Arguments.of(-Double.MIN_NORMAL, "-2.2250738585072014E-308"));
+  }
+
+  @ParameterizedTest(name = "{1}")
+  @MethodSource("doubles")
+  void writeDouble(double value, String expected) {
+    // Arrange
+    Buffer buffer = Buffer.buffer();
+
+    // Act
+    JsonOutput.writeDouble(buffer, value);
+
+    // Assert
+    assertThat(buffer.toString()).isEqualTo(expected);
+  }
+
+  @Test
+  void writeDoubleIsShortest() {
+    // Arrange
+    SplittableRandom random = new SplittableRandom(1);
+
+    for (int i = 0; i < 100_000; i++) {
+      double d = Double.longBitsToDouble(random.nextLong());
+      float f = Float.intBitsToFloat(random.nextInt());
+      if (!Double.isFinite(d) || !Float.isFinite(f)) {
+        continue;
+      }
+      Buffer doubleBuffer = Buffer.buffer();
+      Buffer floatBuffer = Buffer.buffer();
+
+      // Act
+      JsonOutput.writeDouble(doubleBuffer, d);
+      JsonOutput.writeFloat(floatBuffer, f);
+
+      // Assert
+      assertThat(doubleBuffer.toString()).isEqualTo(DoubleToDecimal.toString(d));
+      assertThat(floatBuffer.toString()).isEqualTo(FloatToDecimal.toString(f));
+      assertThat(doubleBuffer.length()).isLessThanOrEqualTo(JsonSize.ofDouble(d));
+      assertThat(floatBuffer.length()).isLessThanOrEqualTo(JsonSize.ofFloat(f));
+    }
+  }
+
+  @Test
+  void writeDoubleArrayOverChunks() {
+    // Arrange
+    SplittableRandom random = new SplittableRandom(1);
+    double[] values = new double[1_000];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = Double.longBitsToDouble(random.nextLong());
+    }
+    values[0] = Double.NaN;
+    values[values.length - 1] = Double.NEGATIVE_INFINITY;
+    Buffer buffer = Buffer.buffer();
+
+    // Act
+    JsonOutput.writeDoubleArray(buffer, values);
+
+    // Assert
+    JsonArray array = new JsonArray(buffer);
+    assertThat(array.size()).isEqualTo(values.length);
+    assertThat(array.getValue(0)).isEqualTo("NaN");
+    assertThat(array.getValue(values.length - 1)).isEqualTo("-Infinity");
+    for (int i = 1; i < values.length - 1; i++) {
+      if (Double.isFinite(values[i])) {
+        assertThat(array.getDouble(i)).isEqualTo(values[i]);
+      }
+    }
+  }
+}
@@ -0,0 +1,134 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.vertx.core.buffer.Buffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class JsonSizeTest {
+
+  static Stream<Arguments> strings() {
+    return Stream.of(
+        Arguments.of("Null", null),
+        Arguments.of("Empty", ""),
+        Arguments.of("Escapes", "say \"hi\" c:\\temp\n"),
+        Arguments.of("Control Characters", "\u0001\u001f"),
+        Arguments.of("Multi Byte", "ünï 日本 😀"),
+        Arguments.of("Unpaired Surrogate", "a\ud800b"));
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("strings")
+  void ofString(String testName, String value) {
+    // Arrange
+    Buffer buffer = Buffer.buffer();
+
+    // Act
+    JsonOutput.writeString(buffer, value);
+
+    // Assert
+    assertThat(JsonSize.ofString(value)).isEqualTo(buffer.length());
+  }
+
+  @Test
+  void ofUnescaped() {
+    // Arrange
+    Buffer buffer = Buffer.buffer();
+
+    // Act
+    JsonOutput.writeUnescaped(buffer, "id-42");
+
+    // Assert
+    assertThat(JsonSize.ofUnescaped("id-42")).isEqualTo(buffer.length());
+    assertThat(JsonSize.ofUnescaped(null)).isEqualTo(JsonSize.NULL);
+  }
+
+  @Test
+  void ofLong() {
+    for (long value : new long[] {0, 9, 10, -1, -10, Long.MAX_VALUE, Long.MIN_VALUE}) {
+      // Arrange
+      Buffer buffer = Buffer.buffer();
+
+      // Act
+      JsonOutput.writeLong(buffer, value);
+
+      // Assert
+      assertThat(JsonSize.ofLong(value)).as("%d", value).isEqualTo(buffer.length());
+    }
+  }
+
+  @Test
+  void ofTimes() {
+    // Arrange
+    LocalDateTime dateTime = LocalDateTime.of(2024, 2, 29, 1, 2, 3, 120_000_000);
+    OffsetDateTime offset = OffsetDateTime.of(dateTime, ZoneOffset.ofHours(-3));
+    OffsetDateTime seconds = OffsetDateTime.of(dateTime, ZoneOffset.ofTotalSeconds(90));
+    LocalDate farFuture = LocalDate.of(12024, 1, 1);
+    Buffer buffer = Buffer.buffer();
+
+    // Act
+    JsonOutput.writeLocalDateTime(buffer, dateTime);
+    JsonOutput.writeOffsetDateTime(buffer, offset);
+    JsonOutput.writeOffsetDateTime(buffer, seconds);
+    JsonOutput.writeLocalDate(buffer, farFuture);
+
+    // Assert
+    assertThat(
+            JsonSize.ofLocalDateTime(dateTime)
+                + JsonSize.ofOffsetDateTime(offset)
+                + JsonSize.ofOffsetDateTime(seconds)
+                + JsonSize.ofLocalDate(farFuture))
+        .isEqualTo(buffer.length());
+  }
+
+  @Test
+  void ofCollections() {
+    // Arrange
+    List<String> strings = List.of("a", "é");
+    byte[] bytes = {1, 2, 3, 4};
+    Buffer buffer = Buffer.buffer();
+
+    // Act
+    buffer.appendByte((byte) '[');
+    JsonOutput.writeString(buffer, strings.get(0));
+    buffer.appendByte((byte) ',');
+    JsonOutput.writeString(buffer, strings.get(1));
+    buffer.appendByte((byte) ']');
+    JsonOutput.writeIntArray(buffer, new int[] {1, -20});
+    JsonOutput.writeBinary(buffer, bytes);
+
+    // Assert
+    assertThat(
+            JsonSize.ofIterable(strings, JsonSize::ofString)
+                + JsonSize.ofIntArray(new int[] {1, -20})
+                + JsonSize.ofBinary(bytes))
+        .isEqualTo(buffer.length());
+    assertThat(JsonSize.ofIterable(List.<String>of(), JsonSize::ofString)).isEqualTo(2);
+  }
+
+  @Test
+  void floatingPointIsAnUpperBound() {
+    // Arrange
+    Buffer buffer = Buffer.buffer();
+    Buffer nonFinite = Buffer.buffer();
+
+    // Act
+    JsonOutput.writeDouble(buffer, -Double.MIN_NORMAL);
+    JsonOutput.writeFloat(nonFinite, Float.NEGATIVE_INFINITY);
+
+    // Assert
+    assertThat(JsonSize.ofDouble(-Double.MIN_NORMAL)).isEqualTo(buffer.length());
+    assertThat(JsonSize.ofFloat(Float.NEGATIVE_INFINITY))
+        .isGreaterThanOrEqualTo(nonFinite.length());
+  }
+}
@@ -0,0 +1,81 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.vertx.core.buffer.Buffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class JsonTimeTest {
+
+  static Stream<Arguments> offsetDateTimes() {
+    return Stream.of(
+        Arguments.of("Utc", OffsetDateTime.of(2024, 2, 29, 13, 14, 15, 0, ZoneOffset.UTC)),
+        Arguments.of(
+            "Millis", OffsetDateTime.of(2024, 2, 29, 13, 14, 15, 120_000_000, ZoneOffset.UTC)),
+        Arguments.of(
+            "Nanos", OffsetDateTime.of(2024, 2, 29, 13, 14, 15, 1, ZoneOffset.ofHours(-5))),
+        Arguments.of(
+            "Minutes Offset",
+            OffsetDateTime.of(2024, 2, 29, 0, 0, 0, 0, ZoneOffset.ofHoursMinutes(5, 30))),
+        Arguments.of(
+            "Seconds Offset",
+            OffsetDateTime.of(2024, 2, 29, 0, 0, 0, 0, ZoneOffset.ofTotalSeconds(3601))),
+        Arguments.of("Large Year", OffsetDateTime.of(12024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC)),
+        Arguments.of("Negative Year", OffsetDateTime.of(-1, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC)));
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("offsetDateTimes")
+  void sameAsFormatter(String testName, OffsetDateTime value) {
+    // Arrange
+    Buffer buffer = Buffer.buffer();
+    String expected = value.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+
+    // Act
+    JsonOutput.writeOffsetDateTime(buffer, value);
+
+    // Assert
+    assertThat(JsonTime.formatOffsetDateTime(value)).isEqualTo(expected);
+    assertThat(JsonTime.formatLocalDateTime(value.toLocalDateTime()))
+        .isEqualTo(value.toLocalDateTime().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+    assertThat(JsonTime.formatLocalDate(value.toLocalDate()))
+        .isEqualTo(value.toLocalDate().format(DateTimeFormatter.ISO_DATE));
+    assertThat(buffer.toString()).isEqualTo("\"" + expected + "\"");
+    assertThat(JsonTime.parseOffsetDateTime(expected)).isEqualTo(value);
+  }
+
+  @Test
+  void parse() {
+    assertThat(JsonTime.parseLocalDate("2024-02-29")).isEqualTo(LocalDate.of(2024, 2, 29));
+    assertThat(JsonTime.parseLocalDateTime("2024-02-29T13:14"))
+        .isEqualTo(LocalDateTime.of(2024, 2, 29, 13, 14));
+    assertThat(JsonTime.parseLocalDateTime("2024-02-29T13:14:15.5"))
+        .isEqualTo(LocalDateTime.of(2024, 2, 29, 13, 14, 15, 500_000_000));
+    // not the fixed layout, parsed by the formatter
+    assertThat(JsonTime.parseOffsetDateTime("2024-02-29t13:14:15+02"))
+        .isEqualTo(OffsetDateTime.of(2024, 2, 29, 13, 14, 15, 0, ZoneOffset.ofHours(2)));
+    assertThat(JsonTime.parseLocalDate(null)).isNull();
+  }
+
+  @Test
+  void parseInvalid() {
+    assertThrows(DateTimeParseException.class, () -> JsonTime.parseLocalDate("2023-02-29"));
+    assertThrows(
+        DateTimeParseException.class, () -> JsonTime.parseLocalDateTime("2024-02-29T24:00:00"));
+    assertThrows(
+        DateTimeParseException.class,
+        () -> JsonTime.parseOffsetDateTime("2024-02-29T13:14:15+18:30"));
+  }
+}
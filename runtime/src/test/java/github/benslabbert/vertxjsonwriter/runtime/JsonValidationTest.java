@@ -0,0 +1,107 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.vertx.core.json.JsonArray;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class JsonValidationTest {
+
+  static Stream<Arguments> dateTimes() {
+    return Stream.of(
+        Arguments.of("2024-02-29T13:14:15", true),
+        Arguments.of("2024-02-29t13:14:15.123456789", true),
+        Arguments.of("2024-02-29T13:14:15Z", true),
+        Arguments.of("2024-02-29T13:14:15.1+02:00", true),
+        Arguments.of("2024-02-29T13:14:15-0130", true),
+        Arguments.of("2023-02-29T13:14:15", false),
+        Arguments.of("2024-02-29T24:00:00", false),
+        Arguments.of("2024-02-29T13:14:15.", false),
+        Arguments.of("2024-02-29T13:14:15+2", false),
+        Arguments.of("2024-02-29", false));
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("dateTimes")
+  void isDateTime(String value, boolean expected) {
+    // Act
+    boolean result = JsonValidation.isDateTime(value);
+
+    // Assert
+    assertThat(result).isEqualTo(expected);
+  }
+
+  @Test
+  void isDate() {
+    assertThat(JsonValidation.isDate("2024-02-29")).isTrue();
+    assertThat(JsonValidation.isDate("2023-02-29")).isFalse();
+    assertThat(JsonValidation.isDate("2024-04-31")).isFalse();
+    assertThat(JsonValidation.isDate("2024-00-01")).isFalse();
+    assertThat(JsonValidation.isDate("2024-1-01")).isFalse();
+  }
+
+  @Test
+  void isBlank() {
+    assertThat(JsonValidation.isBlank("")).isTrue();
+    assertThat(JsonValidation.isBlank(" \t\n\r\f\u000B")).isTrue();
+    // the \S in the json schema pattern only treats ascii whitespace as blank
+    assertThat(JsonValidation.isBlank(" ")).isFalse();
+    assertThat(JsonValidation.isBlank(" a ")).isFalse();
+  }
+
+  @Test
+  void isInteger() {
+    assertThat(JsonValidation.isInteger(1)).isTrue();
+    assertThat(JsonValidation.isInteger(1.0d)).isTrue();
+    assertThat(JsonValidation.isInteger(new BigInteger("123456789012345678901234567890"))).isTrue();
+    assertThat(JsonValidation.isInteger(new BigDecimal("2.000"))).isTrue();
+    assertThat(JsonValidation.isInteger(1.5d)).isFalse();
+    assertThat(JsonValidation.isInteger(Double.NaN)).isFalse();
+    assertThat(JsonValidation.isInteger("1")).isFalse();
+    assertThat(JsonValidation.isInteger(null)).isFalse();
+  }
+
+  @Test
+  void bounds() {
+    assertThat(JsonValidation.lessThan(1, 2L)).isTrue();
+    assertThat(JsonValidation.lessThan(1.999d, 2L)).isTrue();
+    assertThat(JsonValidation.lessThan(2, 2L)).isFalse();
+    assertThat(JsonValidation.greaterThan(Long.MAX_VALUE, Long.MAX_VALUE - 1)).isTrue();
+    assertThat(JsonValidation.greaterThan(new BigInteger("99999999999999999999"), 1L)).isTrue();
+  }
+
+  @Test
+  void duplicateIndex() {
+    assertThat(JsonValidation.duplicateIndex(new JsonArray().add(1).add(2).add(3))).isEqualTo(-1);
+    assertThat(JsonValidation.duplicateIndex(new JsonArray().add(1).add(2).add(1.0d))).isEqualTo(2);
+    assertThat(JsonValidation.duplicateIndex(new JsonArray().add("a").add("a"))).isEqualTo(1);
+  }
+
+  @Test
+  void length() {
+    assertThat(JsonValidation.length("😀a")).isEqualTo(2);
+  }
+
+  @Test
+  void errors() {
+    // Arrange
+    ValidationErrors errors = new ValidationErrors();
+
+    // Act
+    boolean validBefore = errors.isValid();
+    errors.add("#/tags/1", JsonValidation.tooShort(1, 3));
+
+    // Assert
+    assertThat(validBefore).isTrue();
+    assertThat(errors.isValid()).isFalse();
+    assertThat(errors.errors())
+        .containsExactly(new ValidationErrors.Error("#/tags/1", "String is too short (1 < 3)"));
+  }
+}
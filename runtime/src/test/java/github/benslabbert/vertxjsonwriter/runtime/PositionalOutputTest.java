@@ -0,0 +1,93 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.EncodeException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class PositionalOutputTest {
+
+  private static final long FINGERPRINT = 0x1234_5678_9abc_def0L;
+
+  static Stream<Arguments> longs() {
+    return Stream.of(
+        Arguments.of(0L, 1),
+        Arguments.of(-1L, 1),
+        Arguments.of(63L, 1),
+        Arguments.of(64L, 2),
+        Arguments.of(Long.MAX_VALUE, 10),
+        Arguments.of(Long.MIN_VALUE, 10));
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("longs")
+  void zigzag(long value, int bytes) {
+    // Act
+    Buffer buffer = PositionalOutput.write(FINGERPRINT, value, PositionalOutput::writeLong);
+
+    // Assert
+    assertThat(buffer.length()).isEqualTo(Long.BYTES + bytes);
+    assertThat(PositionalInput.read(buffer, FINGERPRINT, PositionalInput::readLong))
+        .isEqualTo(value);
+  }
+
+  @Test
+  void roundTrip() {
+    // Arrange
+    OffsetDateTime dateTime =
+        OffsetDateTime.of(1969, 12, 31, 23, 59, 59, 1, ZoneOffset.ofHoursMinutes(-5, -30));
+    List<String> strings = Arrays.asList("a", null, "ü€");
+
+    // Act
+    Buffer date =
+        PositionalOutput.write(FINGERPRINT, dateTime, PositionalOutput::writeOffsetDateTime);
+    Buffer list =
+        PositionalOutput.write(
+            FINGERPRINT,
+            strings,
+            (b, v) -> PositionalOutput.writeCollection(b, v, PositionalOutput::writeString));
+
+    // Assert
+    assertThat(PositionalInput.read(date, FINGERPRINT, PositionalInput::readOffsetDateTime))
+        .isEqualTo(dateTime);
+    // null elements are skipped, the same as fromJson does
+    List<String> decoded =
+        PositionalInput.read(list, FINGERPRINT, in -> in.readList(PositionalInput::readString));
+    assertThat(decoded).containsExactly("a", "ü€");
+    assertThrows(UnsupportedOperationException.class, () -> decoded.add("b"));
+  }
+
+  @Test
+  void invalid() {
+    // Arrange
+    Buffer buffer = PositionalOutput.write(FINGERPRINT, "abc", PositionalOutput::writeString);
+
+    // Act / Assert
+    assertThrows(
+        DecodeException.class,
+        () -> PositionalInput.read(buffer, FINGERPRINT + 1, PositionalInput::readString));
+    assertThrows(
+        DecodeException.class,
+        () ->
+            PositionalInput.read(
+                buffer.slice(0, buffer.length() - 1), FINGERPRINT, PositionalInput::readString));
+    assertThrows(
+        DecodeException.class,
+        () -> PositionalInput.read(buffer, FINGERPRINT, PositionalInput::readBoolean));
+    assertThrows(
+        EncodeException.class,
+        () -> PositionalOutput.write(FINGERPRINT, null, PositionalOutput::writeString));
+  }
+}
@@ -0,0 +1,125 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.web;
+
+import github.benslabbert.vertxjsonwriter.runtime.DecodeResult;
+import github.benslabbert.vertxjsonwriter.runtime.JsonBuffers;
+import github.benslabbert.vertxjsonwriter.runtime.JsonOutput;
+import github.benslabbert.vertxjsonwriter.runtime.ValidationErrors;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.json.DecodeException;
+import io.vertx.ext.web.RoutingContext;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/// Route handlers over the generated methods, bodies are decoded from the raw [Buffer] and
+/// responses are written with a single `end(Buffer)`.
+///
+/// ```java
+/// router.post("/requests").handler(BodyHandler.create());
+/// router
+///     .post("/requests")
+///     .handler(JsonRoutes.validBody(RequestJson::fromBuffer, (ctx, request) ->
+///         JsonRoutes.end(ctx, 201, service.save(request), RequestJson::writeTo)));
+/// ```
+///
+/// The body has to be read by a `BodyHandler` first.
+public final class JsonRoutes {
+
+  private static final CharSequence APPLICATION_JSON =
+      HttpHeaders.createOptimized("application/json");
+
+  private JsonRoutes() {}
+
+  /// decodes the body with a generated `fromBuffer(Buffer)`, malformed json fails the route
+  /// with 400
+  public static <T> Handler<RoutingContext> body(
+      Function<Buffer, T> decoder, BiConsumer<RoutingContext, T> handler) {
+    return ctx -> {
+      T value;
+      try {
+        value = decoder.apply(body(ctx));
+      } catch (DecodeException e) {
+        ctx.fail(400, e);
+        return;
+      }
+      handler.accept(ctx, value);
+    };
+  }
+
+  /// decodes and validates the body in one pass with a generated `fromBuffer(Buffer, boolean)`,
+  /// see `@JsonWriter(validating = true)`.
+  /// invalid bodies are answered with 400 and all the errors, malformed json fails the route
+  public static <T> Handler<RoutingContext> validBody(
+      BiFunction<Buffer, Boolean, DecodeResult<T>> decoder, BiConsumer<RoutingContext, T> handler) {
+    return ctx -> {
+      DecodeResult<T> result;
+      try {
+        result = decoder.apply(body(ctx), false);
+      } catch (DecodeException e) {
+        ctx.fail(400, e);
+        return;
+      }
+
+      if (!result.isValid()) {
+        end(ctx, 400, result.errors(), JsonRoutes::writeErrors);
+        return;
+      }
+      handler.accept(ctx, result.value());
+    };
+  }
+
+  /// responds with the value returned by `handler`, written by a generated `writeTo`
+  public static <T> Handler<RoutingContext> respond(
+      Function<RoutingContext, T> handler, BiConsumer<Buffer, T> writer) {
+    return ctx -> end(ctx, 200, handler.apply(ctx), writer);
+  }
+
+  /// the buffer comes from [JsonBuffers] and goes back once the write completed or failed, or
+  /// right away if writing the value or the response throws
+  public static <T> Future<Void> end(
+      RoutingContext ctx, int status, T value, BiConsumer<Buffer, T> writer) {
+    Buffer buffer = JsonBuffers.acquire();
+    Future<Void> future;
+    try {
+      writer.accept(buffer, value);
+      future =
+          ctx.response()
+              .setStatusCode(status)
+              .putHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_JSON)
+              .putHeader(HttpHeaders.CONTENT_LENGTH, Integer.toString(buffer.length()))
+              .end(buffer);
+    } catch (RuntimeException e) {
+      JsonBuffers.release(buffer);
+      throw e;
+    }
+    return future.onComplete(ar -> JsonBuffers.release(buffer));
+  }
+
+  /// an empty body is decoded as such, so it is rejected as malformed json
+  private static Buffer body(RoutingContext ctx) {
+    Buffer body = ctx.body().buffer();
+    return null == body ? Buffer.buffer() : body;
+  }
+
+  /// `{"errors":[{"location":"#/name","message":"..."}]}`
+  private static void writeErrors(Buffer buffer, ValidationErrors errors) {
+    buffer.appendString("{\"errors\":[");
+    boolean first = true;
+    for (ValidationErrors.Error error : errors.errors()) {
+      if (!first) {
+        buffer.appendByte((byte) ',');
+      }
+      first = false;
+      buffer.appendString("{\"location\":");
+      JsonOutput.writeString(buffer, error.location());
+      buffer.appendString(",\"message\":");
+      JsonOutput.writeString(buffer, error.message());
+      buffer.appendByte((byte) '}');
+    }
+    buffer.appendString("]}");
+  }
+}
@@ -0,0 +1,194 @@
+/* Licensed under Apache-2.0 2026. */
+package github.benslabbert.vertxjsonwriter.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import github.benslabbert.vertxjsonwriter.runtime.DecodeResult;
+import github.benslabbert.vertxjsonwriter.runtime.JsonBuffers;
+import github.benslabbert.vertxjsonwriter.runtime.JsonInput;
+import github.benslabbert.vertxjsonwriter.runtime.JsonOutput;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.handler.BodyHandler;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JsonRoutesTest {
+
+  private Vertx vertx;
+  private HttpClient client;
+  private int port;
+  private Promise<Boolean> released;
+
+  @BeforeEach
+  void before() {
+    vertx = Vertx.vertx();
+    Router router = Router.router(vertx);
+    router.route().handler(BodyHandler.create());
+    router
+        .post("/echo")
+        .handler(
+            JsonRoutes.body(
+                JsonRoutesTest::decode,
+                (ctx, s) -> JsonRoutes.end(ctx, 201, s, JsonOutput::writeString)));
+    router
+        .post("/valid")
+        .handler(
+            JsonRoutes.validBody(
+                JsonRoutesTest::decode,
+                (ctx, s) -> JsonRoutes.end(ctx, 200, s, JsonOutput::writeString)));
+    router.get("/value").handler(JsonRoutes.respond(ctx -> "value", JsonOutput::writeString));
+    released = Promise.promise();
+    router.get("/ended").handler(this::endTwice);
+
+    HttpServer server = vertx.createHttpServer().requestHandler(router).listen(0).await();
+    port = server.actualPort();
+    client = vertx.createHttpClient();
+  }
+
+  @AfterEach
+  void after() {
+    vertx.close().await();
+  }
+
+  @Test
+  void body() {
+    // Act
+    Response response = send(HttpMethod.POST, "/echo", "\"é\"");
+    Response malformed = send(HttpMethod.POST, "/echo", "{");
+
+    // Assert
+    assertThat(response.statusCode()).isEqualTo(201);
+    assertThat(response.headers().get("content-type")).isEqualTo("application/json");
+    assertThat(response.headers().get("content-length")).isEqualTo("4");
+    assertThat(response.body()).isEqualTo("\"é\"");
+    assertThat(malformed.statusCode()).isEqualTo(400);
+  }
+
+  @Test
+  void validBody() {
+    // Act
+    Response valid = send(HttpMethod.POST, "/valid", "\"a\"");
+    Response invalid = send(HttpMethod.POST, "/valid", "\"\"");
+
+    // Assert
+    assertThat(valid.statusCode()).isEqualTo(200);
+    assertThat(valid.body()).isEqualTo("\"a\"");
+    assertThat(invalid.statusCode()).isEqualTo(400);
+    assertThat(invalid.body())
+        .isEqualTo("{\"errors\":[{\"location\":\"#\",\"message\":\"blank\"}]}");
+  }
+
+  @Test
+  void respond() {
+    // Act
+    Response response = send(HttpMethod.GET, "/value", "");
+
+    // Assert
+    assertThat(response.statusCode()).isEqualTo(200);
+    assertThat(response.body()).isEqualTo("\"value\"");
+  }
+
+  @Test
+  void pooledBuffersDoNotLeakBetweenResponses() {
+    for (String value : new String[] {"a long first value", "b", "", "a long value again"}) {
+      // Act
+      Response response = send(HttpMethod.POST, "/echo", "\"" + value + "\"");
+
+      // Assert
+      assertThat(response.body()).isEqualTo("\"" + value + "\"");
+      assertThat(response.headers().get("content-length"))
+          .isEqualTo(Integer.toString(value.length() + 2));
+    }
+  }
+
+  @Test
+  void bufferIsReleasedWhenTheResponseFails() {
+    // Act
+    Response response = send(HttpMethod.GET, "/ended", "");
+
+    // Assert
+    assertThat(response.statusCode()).isEqualTo(200);
+    assertThat(released.future().await()).isTrue();
+  }
+
+  /// the second response fails, the buffer it was written to has to be back in the pool of the
+  /// event loop afterwards
+  private void endTwice(RoutingContext ctx) {
+    ctx.response().end();
+    AtomicReference<Buffer> written = new AtomicReference<>();
+    Future<Void> future;
+    try {
+      future =
+          JsonRoutes.end(
+              ctx,
+              201,
+              "value",
+              (buffer, s) -> {
+                written.set(buffer);
+                JsonOutput.writeString(buffer, s);
+              });
+    } catch (IllegalStateException e) {
+      future = Future.failedFuture(e);
+    }
+    future.onComplete(
+        ar -> {
+          Buffer next = JsonBuffers.acquire();
+          JsonBuffers.release(next);
+          released.tryComplete(ar.failed() && next == written.get());
+        });
+  }
+
+  /// runs on a vert.x context, callbacks added from the test thread to completed futures run on
+  /// the test thread and can miss the body
+  private Response send(HttpMethod method, String uri, String body) {
+    return Future.<Response>future(
+            promise ->
+                vertx.runOnContext(
+                    v ->
+                        client
+                            .request(method, port, "localhost", uri)
+                            .compose(request -> request.send(Buffer.buffer(body)))
+                            .compose(
+                                response ->
+                                    response
+                                        .body()
+                                        .map(
+                                            b ->
+                                                new Response(
+                                                    response.statusCode(),
+                                                    response.headers(),
+                                                    b.toString())))
+                            .onComplete(promise)))
+        .await();
+  }
+
+  private record Response(int statusCode, MultiMap headers, String body) {}
+
+  private static String decode(Buffer buffer) {
+    return JsonInput.read(buffer, JsonInput::readString);
+  }
+
+  private static DecodeResult<String> decode(Buffer buffer, boolean failFast) {
+    return JsonInput.read(
+        buffer,
+        failFast,
+        (parser, path, errors) -> {
+          String s = JsonInput.readString(parser);
+          if (null == s || s.isBlank()) {
+            errors.add(path, "blank");
+          }
+          return s;
+        });
+  }
+}